@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.treblereel.gwt.xml.mapper.api.deser;
+
+import javax.xml.stream.XMLStreamException;
+import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
+import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
+
+/**
+ * A {@link XMLDeserializer} for values written as repeated sibling elements, like unwrapped
+ * collections and arrays. Every call reads one element into an accumulator owned by the caller, the
+ * deserializer itself holds no state and can be shared.
+ *
+ * @param <T> type of the deserialized value
+ * @param <A> type of the accumulator
+ */
+public interface AccumulatingXMLDeserializer<T, A> {
+
+  /**
+   * Creates an empty accumulator for one value.
+   *
+   * @return a new accumulator
+   */
+  A newAccumulator();
+
+  /**
+   * Reads the current element and adds it to the accumulator.
+   *
+   * @param reader reader positioned on the element
+   * @param ctx context of the deserialization process
+   * @param params parameters for this deserialization
+   * @param accumulator accumulator created by {@link #newAccumulator()}
+   */
+  void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      A accumulator)
+      throws XMLStreamException;
+
+  /**
+   * Builds the value from everything read into the accumulator.
+   *
+   * @param accumulator accumulator created by {@link #newAccumulator()}
+   * @return the deserialized value
+   */
+  T finish(A accumulator);
+}
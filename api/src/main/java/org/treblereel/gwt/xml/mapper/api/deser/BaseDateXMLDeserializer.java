@@ -26,6 +26,7 @@ import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
 import org.treblereel.gwt.xml.mapper.api.exception.XMLDeserializationException;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
+import org.treblereel.gwt.xml.mapper.api.utils.Iso8601Utils;
 
 /**
  * Base implementation of {@link XMLDeserializer} for dates.
@@ -76,6 +77,18 @@ public abstract class BaseDateXMLDeserializer<D extends Date> extends XMLDeseria
   protected abstract D deserializeString(
       String date, XMLDeserializationContext ctx, XMLDeserializerParameters params);
 
+  /**
+   * Parses a date written without a pattern in one of the common xsd:dateTime forms, so that the
+   * date format is only needed for the others.
+   *
+   * @param date the text to parse
+   * @param params a {@link XMLDeserializerParameters} object.
+   * @return the milliseconds since the epoch, or {@link Iso8601Utils#INVALID}
+   */
+  protected static long parseIso8601(String date, XMLDeserializerParameters params) {
+    return null == params.getPattern() ? Iso8601Utils.parse(date) : Iso8601Utils.INVALID;
+  }
+
   /** Default implementation of {@link BaseDateXMLDeserializer} for {@link Date} */
   public static final class DateXMLDeserializer extends BaseDateXMLDeserializer<Date> {
 
@@ -104,6 +117,10 @@ public abstract class BaseDateXMLDeserializer<D extends Date> extends XMLDeseria
       if (date == null || date.isEmpty()) {
         return null;
       }
+      long millis = parseIso8601(date, params);
+      if (millis != Iso8601Utils.INVALID) {
+        return new Date(millis);
+      }
       return MapperContextProvider.get()
           .dateFormat()
           .parse(ctx.isUseBrowserTimezone(), params.getPattern(), null, date);
@@ -189,6 +206,10 @@ public abstract class BaseDateXMLDeserializer<D extends Date> extends XMLDeseria
     @Override
     protected Timestamp deserializeString(
         String date, XMLDeserializationContext ctx, XMLDeserializerParameters params) {
+      long millis = parseIso8601(date, params);
+      if (millis != Iso8601Utils.INVALID) {
+        return new Timestamp(millis);
+      }
       return new Timestamp(
           params
               .dateFormat()
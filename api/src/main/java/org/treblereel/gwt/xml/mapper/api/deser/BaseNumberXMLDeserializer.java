@@ -120,11 +120,14 @@ public abstract class BaseNumberXMLDeserializer<N extends Number> extends XMLDes
     protected Byte doDeserialize(
         XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
         throws XMLStreamException {
-      String value = reader.nextString();
-      if (value == null) {
+      if (reader.nextIsNull()) {
         return null;
       }
-      return Byte.valueOf(value);
+      int value = reader.nextInt();
+      if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+        throw new NumberFormatException("Value out of range. Value:\"" + value + "\"");
+      }
+      return (byte) value;
     }
 
     @Override
@@ -154,11 +157,10 @@ public abstract class BaseNumberXMLDeserializer<N extends Number> extends XMLDes
     protected Double doDeserialize(
         XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
         throws XMLStreamException {
-      String value = reader.nextString();
-      if (value == null) {
+      if (reader.nextIsNull()) {
         return null;
       }
-      return Double.valueOf(value);
+      return reader.nextDouble();
     }
 
     @Override
@@ -188,11 +190,10 @@ public abstract class BaseNumberXMLDeserializer<N extends Number> extends XMLDes
     protected Float doDeserialize(
         XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
         throws XMLStreamException {
-      String value = reader.nextString();
-      if (value == null) {
+      if (reader.nextIsNull()) {
         return null;
       }
-      return Float.parseFloat(value);
+      return reader.nextFloat();
     }
 
     @Override
@@ -222,11 +223,10 @@ public abstract class BaseNumberXMLDeserializer<N extends Number> extends XMLDes
     protected Integer doDeserialize(
         XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
         throws XMLStreamException {
-      String value = reader.nextString();
-      if (value == null) {
+      if (reader.nextIsNull()) {
         return null;
       }
-      return Integer.valueOf(value);
+      return reader.nextInt();
     }
 
     @Override
@@ -256,11 +256,10 @@ public abstract class BaseNumberXMLDeserializer<N extends Number> extends XMLDes
     protected Long doDeserialize(
         XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
         throws XMLStreamException {
-      String value = reader.nextString();
-      if (value == null) {
+      if (reader.nextIsNull()) {
         return null;
       }
-      return Long.valueOf(value);
+      return reader.nextLong();
     }
 
     @Override
@@ -290,11 +289,14 @@ public abstract class BaseNumberXMLDeserializer<N extends Number> extends XMLDes
     protected Short doDeserialize(
         XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
         throws XMLStreamException {
-      String value = reader.nextString();
-      if (value == null) {
+      if (reader.nextIsNull()) {
         return null;
       }
-      return Short.valueOf(value);
+      int value = reader.nextInt();
+      if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+        throw new NumberFormatException("Value out of range. Value:\"" + value + "\"");
+      }
+      return (short) value;
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser;
 
+import java.util.ArrayList;
 import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
@@ -32,7 +33,8 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class StringArrayXMLDeserializer extends AbstractArrayXMLDeserializer<String[]> {
+public class StringArrayXMLDeserializer extends AbstractArrayXMLDeserializer<String[]>
+    implements AccumulatingXMLDeserializer<String[], List<String>> {
 
   private static final StringArrayXMLDeserializer INSTANCE = new StringArrayXMLDeserializer();
 
@@ -52,8 +54,31 @@ public class StringArrayXMLDeserializer extends AbstractArrayXMLDeserializer<Str
   public String[] doDeserializeArray(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<String> list =
-        deserializeIntoList(reader, ctx, s -> StringXMLDeserializer.getInstance(), params);
+    List<String> list = newAccumulator();
+    accumulate(reader, ctx, params, list);
+    return finish(list);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<String> newAccumulator() {
+    return new ArrayList<>();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      List<String> list)
+      throws XMLStreamException {
+    deserializeInto(reader, ctx, s -> StringXMLDeserializer.getInstance(), params, list);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String[] finish(List<String> list) {
     return list.toArray(new String[list.size()]);
   }
 
@@ -33,11 +33,19 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  */
 public class StringXMLDeserializer extends XMLDeserializer<String> {
 
-  private static final StringXMLDeserializer INSTANCE = new StringXMLDeserializer();
+  private static final StringXMLDeserializer INSTANCE =
+      new StringXMLDeserializer(PropertyType.COMMON);
 
-  private PropertyType propertyType = PropertyType.COMMON;
+  private static final StringXMLDeserializer CDATA = new StringXMLDeserializer(PropertyType.CDATA);
 
-  private StringXMLDeserializer() {}
+  private static final StringXMLDeserializer CDATA_INLINE =
+      new StringXMLDeserializer(PropertyType.CDATA_INLINE);
+
+  private final PropertyType propertyType;
+
+  private StringXMLDeserializer(PropertyType propertyType) {
+    this.propertyType = propertyType;
+  }
 
   /**
    * getInstance
@@ -54,7 +62,6 @@ public class StringXMLDeserializer extends XMLDeserializer<String> {
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
     if (propertyType.equals(PropertyType.CDATA) || propertyType.equals(PropertyType.CDATA_INLINE)) {
-      this.propertyType = PropertyType.COMMON;
       reader.next();
       if (reader.peek() == XMLStreamConstants.END_ELEMENT) {
         return null;
@@ -72,8 +79,19 @@ public class StringXMLDeserializer extends XMLDeserializer<String> {
     return value;
   }
 
+  /**
+   * Returns the shared instance for the given property type. Instances are immutable, so they can
+   * be kept by property deserializers across reads.
+   *
+   * @param propertyType the property type
+   * @return an instance of {@link StringXMLDeserializer}
+   */
   public StringXMLDeserializer setPropertyType(PropertyType propertyType) {
-    this.propertyType = propertyType;
-    return this;
+    if (propertyType.equals(PropertyType.CDATA)) {
+      return CDATA;
+    } else if (propertyType.equals(PropertyType.CDATA_INLINE)) {
+      return CDATA_INLINE;
+    }
+    return INSTANCE;
   }
 }
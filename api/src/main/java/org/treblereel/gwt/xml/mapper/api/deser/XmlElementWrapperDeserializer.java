@@ -37,6 +37,10 @@ public class XmlElementWrapperDeserializer<T> extends XMLDeserializer<T> {
   protected T doDeserialize(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
+    if (internalXMLDeserializer instanceof AccumulatingXMLDeserializer) {
+      return doDeserialize(
+          reader, ctx, params, (AccumulatingXMLDeserializer<T, Object>) internalXMLDeserializer);
+    }
     int counter = 0;
     T result = null;
 
@@ -55,4 +59,32 @@ public class XmlElementWrapperDeserializer<T> extends XMLDeserializer<T> {
     }
     return result;
   }
+
+  private <A> T doDeserialize(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      AccumulatingXMLDeserializer<T, A> deserializer)
+      throws XMLStreamException {
+    int counter = 0;
+    A accumulator = null;
+
+    while (reader.hasNext()) {
+      reader.next();
+      if (reader.peek() == XMLStreamConstants.START_ELEMENT) {
+        counter++;
+        if (accumulator == null) {
+          accumulator = deserializer.newAccumulator();
+        }
+        deserializer.accumulate(reader, ctx, params, accumulator);
+      }
+      if (reader.peek() == XMLStreamConstants.END_ELEMENT) {
+        counter--;
+      }
+      if (counter < 0) {
+        break;
+      }
+    }
+    return accumulator == null ? null : deserializer.finish(accumulator);
+  }
 }
@@ -16,7 +16,7 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import javax.xml.stream.XMLStreamException;
@@ -33,8 +33,6 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  */
 public abstract class AbstractArrayXMLDeserializer<T> extends XMLDeserializer<T> {
 
-  private List collection = new ArrayList();
-
   /**
    * Deserializes the array into a {@link java.util.List}. We need the length of the array before
    * creating it.
@@ -75,27 +73,36 @@ public abstract class AbstractArrayXMLDeserializer<T> extends XMLDeserializer<T>
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException;
 
-  protected <T> List<T> deserializeIntoList(
+  /**
+   * Reads the current element and adds it to the given list.
+   *
+   * @param reader reader positioned on the element
+   * @param ctx context of the deserialization process
+   * @param deserializer deserializer of the element, by xsi:type
+   * @param params parameters for the deserializer
+   * @param list list to add the element to
+   */
+  protected <E> void deserializeInto(
       XMLReader reader,
       XMLDeserializationContext ctx,
-      Function<String, XMLDeserializer<T>> deserializer,
-      XMLDeserializerParameters params)
+      Function<String, XMLDeserializer<E>> deserializer,
+      XMLDeserializerParameters params,
+      List<E> list)
       throws XMLStreamException {
-    return (List<T>)
-        ctx.iterator()
-            .iterateOverCollection(
-                reader,
-                collection,
-                (reader1, ctx1, instance) -> {
-                  T bean =
-                      deserializer
-                          .apply(inheritanceChooser.get().apply(reader1))
-                          .deserialize(reader1, ctx1, params);
-                  collection.add(bean);
-                  return null;
-                },
-                ctx,
-                params,
-                isWrapCollections);
+    ctx.iterator()
+        .iterateOverCollection(
+            reader,
+            (Collection) list,
+            (reader1, ctx1, instance) -> {
+              E bean =
+                  deserializer
+                      .apply(inheritanceChooser.get().apply(reader1))
+                      .deserialize(reader1, ctx1, params);
+              list.add(bean);
+              return null;
+            },
+            ctx,
+            params,
+            isWrapCollections);
   }
 }
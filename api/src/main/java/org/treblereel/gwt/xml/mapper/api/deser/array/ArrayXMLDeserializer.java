@@ -16,12 +16,14 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
 /**
@@ -30,7 +32,8 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class ArrayXMLDeserializer<T> extends AbstractArrayXMLDeserializer<T[]> {
+public class ArrayXMLDeserializer<T> extends AbstractArrayXMLDeserializer<T[]>
+    implements AccumulatingXMLDeserializer<T[], List<T>> {
 
   private final Function<String, XMLDeserializer<T>> deserializer;
   private final ArrayCreator<T> arrayCreator;
@@ -71,10 +74,31 @@ public class ArrayXMLDeserializer<T> extends AbstractArrayXMLDeserializer<T[]> {
   public T[] doDeserializeArray(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<T> list = deserializeIntoList(reader, ctx, deserializer, params);
-    if (list == null) {
-      return null;
-    }
+    List<T> list = newAccumulator();
+    accumulate(reader, ctx, params, list);
+    return finish(list);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<T> newAccumulator() {
+    return new ArrayList<>();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      List<T> list)
+      throws XMLStreamException {
+    deserializeInto(reader, ctx, deserializer, params, list);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public T[] finish(List<T> list) {
     return list.toArray(arrayCreator.create(list.size()));
   }
 
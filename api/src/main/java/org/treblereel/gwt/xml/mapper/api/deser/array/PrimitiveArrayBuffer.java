@@ -0,0 +1,274 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.treblereel.gwt.xml.mapper.api.deser.array;
+
+import java.util.Arrays;
+
+/**
+ * Growable buffer of unboxed values, used to read primitive arrays whose length is only known once
+ * their last element has been read. The capacity doubles as values are added and {@code toArray}
+ * trims the result to the number of values.
+ *
+ * <p>2D arrays are read into a single buffer: {@link #endRow()} marks where each row ends and
+ * {@code toArray2d} copies the rows out of it.
+ */
+public abstract class PrimitiveArrayBuffer {
+
+  protected static final int INITIAL_CAPACITY = 16;
+
+  protected int size;
+
+  protected int rows;
+
+  private int[] rowEnds;
+
+  private PrimitiveArrayBuffer() {}
+
+  /** @return the number of values added since the buffer was created or last cleared */
+  public int size() {
+    return size;
+  }
+
+  /** @return the number of rows ended since the buffer was created or last cleared */
+  public int rows() {
+    return rows;
+  }
+
+  /** Ends a row of a 2D array, made of the values added since the previous row ended. */
+  public void endRow() {
+    if (null == rowEnds) {
+      rowEnds = new int[INITIAL_CAPACITY];
+    } else if (rows == rowEnds.length) {
+      rowEnds = Arrays.copyOf(rowEnds, rows << 1);
+    }
+    rowEnds[rows++] = size;
+  }
+
+  /** Empties the buffer, keeping its capacity for the next values. */
+  public void clear() {
+    size = 0;
+    rows = 0;
+  }
+
+  protected int rowStart(int row) {
+    return row == 0 ? 0 : rowEnds[row - 1];
+  }
+
+  protected int rowLength(int row) {
+    return rowEnds[row] - rowStart(row);
+  }
+
+  /** @return the capacity to grow a full buffer to */
+  protected int grow() {
+    return size < INITIAL_CAPACITY ? INITIAL_CAPACITY : size << 1;
+  }
+
+  /** Growable buffer of boolean values. */
+  public static final class OfBoolean extends PrimitiveArrayBuffer {
+
+    private boolean[] values = new boolean[INITIAL_CAPACITY];
+
+    public void add(boolean value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow());
+      }
+      values[size++] = value;
+    }
+
+    /** @return a new array holding the values added so far */
+    public boolean[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+
+    /** @return a new 2D array holding the rows ended so far, as wide as the first row */
+    public boolean[][] toArray2d() {
+      int width = rows == 0 ? 0 : rowLength(0);
+      boolean[][] result = new boolean[rows][width];
+      for (int i = 0; i < rows; i++) {
+        System.arraycopy(values, rowStart(i), result[i], 0, rowLength(i));
+      }
+      return result;
+    }
+  }
+
+  /** Growable buffer of char values. */
+  public static final class OfCharacter extends PrimitiveArrayBuffer {
+
+    private char[] values = new char[INITIAL_CAPACITY];
+
+    public void add(char value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow());
+      }
+      values[size++] = value;
+    }
+
+    /** @return a new array holding the values added so far */
+    public char[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+
+    /** @return a new 2D array holding the rows ended so far, as wide as the first row */
+    public char[][] toArray2d() {
+      int width = rows == 0 ? 0 : rowLength(0);
+      char[][] result = new char[rows][width];
+      for (int i = 0; i < rows; i++) {
+        System.arraycopy(values, rowStart(i), result[i], 0, rowLength(i));
+      }
+      return result;
+    }
+  }
+
+  /** Growable buffer of double values. */
+  public static final class OfDouble extends PrimitiveArrayBuffer {
+
+    private double[] values = new double[INITIAL_CAPACITY];
+
+    public void add(double value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow());
+      }
+      values[size++] = value;
+    }
+
+    /** @return a new array holding the values added so far */
+    public double[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+
+    /** @return a new 2D array holding the rows ended so far, as wide as the first row */
+    public double[][] toArray2d() {
+      int width = rows == 0 ? 0 : rowLength(0);
+      double[][] result = new double[rows][width];
+      for (int i = 0; i < rows; i++) {
+        System.arraycopy(values, rowStart(i), result[i], 0, rowLength(i));
+      }
+      return result;
+    }
+  }
+
+  /** Growable buffer of float values. */
+  public static final class OfFloat extends PrimitiveArrayBuffer {
+
+    private float[] values = new float[INITIAL_CAPACITY];
+
+    public void add(float value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow());
+      }
+      values[size++] = value;
+    }
+
+    /** @return a new array holding the values added so far */
+    public float[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+
+    /** @return a new 2D array holding the rows ended so far, as wide as the first row */
+    public float[][] toArray2d() {
+      int width = rows == 0 ? 0 : rowLength(0);
+      float[][] result = new float[rows][width];
+      for (int i = 0; i < rows; i++) {
+        System.arraycopy(values, rowStart(i), result[i], 0, rowLength(i));
+      }
+      return result;
+    }
+  }
+
+  /** Growable buffer of int values. */
+  public static final class OfInteger extends PrimitiveArrayBuffer {
+
+    private int[] values = new int[INITIAL_CAPACITY];
+
+    public void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow());
+      }
+      values[size++] = value;
+    }
+
+    /** @return a new array holding the values added so far */
+    public int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+
+    /** @return a new 2D array holding the rows ended so far, as wide as the first row */
+    public int[][] toArray2d() {
+      int width = rows == 0 ? 0 : rowLength(0);
+      int[][] result = new int[rows][width];
+      for (int i = 0; i < rows; i++) {
+        System.arraycopy(values, rowStart(i), result[i], 0, rowLength(i));
+      }
+      return result;
+    }
+  }
+
+  /** Growable buffer of long values. */
+  public static final class OfLong extends PrimitiveArrayBuffer {
+
+    private long[] values = new long[INITIAL_CAPACITY];
+
+    public void add(long value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow());
+      }
+      values[size++] = value;
+    }
+
+    /** @return a new array holding the values added so far */
+    public long[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+
+    /** @return a new 2D array holding the rows ended so far, as wide as the first row */
+    public long[][] toArray2d() {
+      int width = rows == 0 ? 0 : rowLength(0);
+      long[][] result = new long[rows][width];
+      for (int i = 0; i < rows; i++) {
+        System.arraycopy(values, rowStart(i), result[i], 0, rowLength(i));
+      }
+      return result;
+    }
+  }
+
+  /** Growable buffer of short values. */
+  public static final class OfShort extends PrimitiveArrayBuffer {
+
+    private short[] values = new short[INITIAL_CAPACITY];
+
+    public void add(short value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow());
+      }
+      values[size++] = value;
+    }
+
+    /** @return a new array holding the values added so far */
+    public short[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+
+    /** @return a new 2D array holding the rows ended so far, as wide as the first row */
+    public short[][] toArray2d() {
+      int width = rows == 0 ? 0 : rowLength(0);
+      short[][] result = new short[rows][width];
+      for (int i = 0; i < rows; i++) {
+        System.arraycopy(values, rowStart(i), result[i], 0, rowLength(i));
+      }
+      return result;
+    }
+  }
+}
@@ -16,11 +16,11 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.deser.BooleanXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
@@ -30,7 +30,8 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveBooleanArrayXMLDeserializer extends AbstractArrayXMLDeserializer<boolean[]> {
+public class PrimitiveBooleanArrayXMLDeserializer extends AbstractArrayXMLDeserializer<boolean[]>
+    implements AccumulatingXMLDeserializer<boolean[], PrimitiveArrayBuffer.OfBoolean> {
 
   /**
    * getInstance
@@ -48,18 +49,32 @@ public class PrimitiveBooleanArrayXMLDeserializer extends AbstractArrayXMLDeseri
   public boolean[] doDeserializeArray(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<Boolean> list =
-        deserializeIntoList(reader, ctx, s -> BooleanXMLDeserializer.getInstance(), params);
+    PrimitiveArrayBuffer.OfBoolean buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfBoolean newAccumulator() {
+    return new PrimitiveArrayBuffer.OfBoolean();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfBoolean buffer)
+      throws XMLStreamException {
+    buffer.add(reader.nextBoolean());
+  }
 
-    boolean[] result = new boolean[list.size()];
-    int i = 0;
-    for (Boolean value : list) {
-      if (null != value) {
-        result[i] = value;
-      }
-      i++;
-    }
-    return result;
+  /** {@inheritDoc} */
+  @Override
+  public boolean[] finish(PrimitiveArrayBuffer.OfBoolean buffer) {
+    return buffer.toArray();
   }
 
   /** {@inheritDoc} */
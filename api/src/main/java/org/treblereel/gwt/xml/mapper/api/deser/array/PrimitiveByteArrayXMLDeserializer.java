@@ -21,9 +21,7 @@ import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
 import org.treblereel.gwt.xml.mapper.api.deser.BaseNumberXMLDeserializer;
-import org.treblereel.gwt.xml.mapper.api.deser.StringXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
-import org.treblereel.gwt.xml.mapper.api.utils.Base64Utils;
 
 /**
  * Default {@link XMLDeserializer} implementation for array of byte.
@@ -49,13 +47,7 @@ public class PrimitiveByteArrayXMLDeserializer extends AbstractArrayXMLDeseriali
   public byte[] doDeserializeArray(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-
-    String result = StringXMLDeserializer.getInstance().doDeserialize(reader, ctx, params);
-    if (result != null) {
-      return Base64Utils.fromBase64(result);
-    }
-
-    return new byte[0];
+    return reader.nextBinary();
   }
 
   /** {@inheritDoc} */
@@ -16,11 +16,11 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.deser.CharacterXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
@@ -30,7 +30,8 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveCharacterArrayXMLDeserializer extends AbstractArrayXMLDeserializer<char[]> {
+public class PrimitiveCharacterArrayXMLDeserializer extends AbstractArrayXMLDeserializer<char[]>
+    implements AccumulatingXMLDeserializer<char[], PrimitiveArrayBuffer.OfCharacter> {
 
   /**
    * getInstance
@@ -48,18 +49,33 @@ public class PrimitiveCharacterArrayXMLDeserializer extends AbstractArrayXMLDese
   public char[] doDeserializeArray(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<Character> list =
-        deserializeIntoList(reader, ctx, s -> CharacterXMLDeserializer.getInstance(), params);
+    PrimitiveArrayBuffer.OfCharacter buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfCharacter newAccumulator() {
+    return new PrimitiveArrayBuffer.OfCharacter();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfCharacter buffer)
+      throws XMLStreamException {
+    String value = reader.nextString();
+    buffer.add(value == null || value.isEmpty() ? '\0' : value.charAt(0));
+  }
 
-    char[] result = new char[list.size()];
-    int i = 0;
-    for (Character value : list) {
-      if (null != value) {
-        result[i] = value;
-      }
-      i++;
-    }
-    return result;
+  /** {@inheritDoc} */
+  @Override
+  public char[] finish(PrimitiveArrayBuffer.OfCharacter buffer) {
+    return buffer.toArray();
   }
 
   /** {@inheritDoc} */
@@ -16,11 +16,11 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.deser.BaseNumberXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
@@ -30,7 +30,8 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveDoubleArrayXMLDeserializer extends AbstractArrayXMLDeserializer<double[]> {
+public class PrimitiveDoubleArrayXMLDeserializer extends AbstractArrayXMLDeserializer<double[]>
+    implements AccumulatingXMLDeserializer<double[], PrimitiveArrayBuffer.OfDouble> {
 
   /**
    * getInstance
@@ -48,22 +49,32 @@ public class PrimitiveDoubleArrayXMLDeserializer extends AbstractArrayXMLDeseria
   public double[] doDeserializeArray(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<Double> list =
-        deserializeIntoList(
-            reader,
-            ctx,
-            s -> BaseNumberXMLDeserializer.DoubleXMLDeserializer.getInstance(),
-            params);
+    PrimitiveArrayBuffer.OfDouble buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfDouble newAccumulator() {
+    return new PrimitiveArrayBuffer.OfDouble();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfDouble buffer)
+      throws XMLStreamException {
+    buffer.add(reader.nextIsNull() ? 0 : reader.nextDouble());
+  }
 
-    double[] result = new double[list.size()];
-    int i = 0;
-    for (Double value : list) {
-      if (null != value) {
-        result[i] = value;
-      }
-      i++;
-    }
-    return result;
+  /** {@inheritDoc} */
+  @Override
+  public double[] finish(PrimitiveArrayBuffer.OfDouble buffer) {
+    return buffer.toArray();
   }
 
   /** {@inheritDoc} */
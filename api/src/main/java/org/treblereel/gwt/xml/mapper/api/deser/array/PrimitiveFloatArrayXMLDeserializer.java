@@ -16,11 +16,11 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.deser.BaseNumberXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
@@ -30,7 +30,8 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveFloatArrayXMLDeserializer extends AbstractArrayXMLDeserializer<float[]> {
+public class PrimitiveFloatArrayXMLDeserializer extends AbstractArrayXMLDeserializer<float[]>
+    implements AccumulatingXMLDeserializer<float[], PrimitiveArrayBuffer.OfFloat> {
 
   /**
    * getInstance
@@ -48,19 +49,32 @@ public class PrimitiveFloatArrayXMLDeserializer extends AbstractArrayXMLDeserial
   public float[] doDeserializeArray(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<Float> list =
-        deserializeIntoList(
-            reader, ctx, s -> BaseNumberXMLDeserializer.FloatXMLDeserializer.getInstance(), params);
+    PrimitiveArrayBuffer.OfFloat buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfFloat newAccumulator() {
+    return new PrimitiveArrayBuffer.OfFloat();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfFloat buffer)
+      throws XMLStreamException {
+    buffer.add(reader.nextIsNull() ? 0 : reader.nextFloat());
+  }
 
-    float[] result = new float[list.size()];
-    int i = 0;
-    for (Float value : list) {
-      if (null != value) {
-        result[i] = value;
-      }
-      i++;
-    }
-    return result;
+  /** {@inheritDoc} */
+  @Override
+  public float[] finish(PrimitiveArrayBuffer.OfFloat buffer) {
+    return buffer.toArray();
   }
 
   /** {@inheritDoc} */
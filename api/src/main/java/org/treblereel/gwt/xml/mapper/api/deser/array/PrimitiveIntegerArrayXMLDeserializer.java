@@ -16,11 +16,11 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.deser.BaseNumberXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
@@ -30,7 +30,8 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveIntegerArrayXMLDeserializer extends AbstractArrayXMLDeserializer<int[]> {
+public class PrimitiveIntegerArrayXMLDeserializer extends AbstractArrayXMLDeserializer<int[]>
+    implements AccumulatingXMLDeserializer<int[], PrimitiveArrayBuffer.OfInteger> {
 
   /**
    * getInstance
@@ -48,22 +49,32 @@ public class PrimitiveIntegerArrayXMLDeserializer extends AbstractArrayXMLDeseri
   public int[] doDeserializeArray(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<Integer> list =
-        deserializeIntoList(
-            reader,
-            ctx,
-            s -> BaseNumberXMLDeserializer.IntegerXMLDeserializer.getInstance(),
-            params);
+    PrimitiveArrayBuffer.OfInteger buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfInteger newAccumulator() {
+    return new PrimitiveArrayBuffer.OfInteger();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfInteger buffer)
+      throws XMLStreamException {
+    buffer.add(reader.nextIsNull() ? 0 : reader.nextInt());
+  }
 
-    int[] result = new int[list.size()];
-    int i = 0;
-    for (Integer value : list) {
-      if (null != value) {
-        result[i] = value;
-      }
-      i++;
-    }
-    return result;
+  /** {@inheritDoc} */
+  @Override
+  public int[] finish(PrimitiveArrayBuffer.OfInteger buffer) {
+    return buffer.toArray();
   }
 
   /** {@inheritDoc} */
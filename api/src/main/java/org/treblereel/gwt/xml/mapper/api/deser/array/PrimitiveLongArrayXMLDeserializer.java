@@ -16,11 +16,11 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.deser.BaseNumberXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
@@ -30,7 +30,8 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveLongArrayXMLDeserializer extends AbstractArrayXMLDeserializer<long[]> {
+public class PrimitiveLongArrayXMLDeserializer extends AbstractArrayXMLDeserializer<long[]>
+    implements AccumulatingXMLDeserializer<long[], PrimitiveArrayBuffer.OfLong> {
 
   /**
    * getInstance
@@ -48,19 +49,32 @@ public class PrimitiveLongArrayXMLDeserializer extends AbstractArrayXMLDeseriali
   public long[] doDeserializeArray(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<Long> list =
-        deserializeIntoList(
-            reader, ctx, s -> BaseNumberXMLDeserializer.LongXMLDeserializer.getInstance(), params);
+    PrimitiveArrayBuffer.OfLong buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfLong newAccumulator() {
+    return new PrimitiveArrayBuffer.OfLong();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfLong buffer)
+      throws XMLStreamException {
+    buffer.add(reader.nextIsNull() ? 0 : reader.nextLong());
+  }
 
-    long[] result = new long[list.size()];
-    int i = 0;
-    for (Long value : list) {
-      if (null != value) {
-        result[i] = value;
-      }
-      i++;
-    }
-    return result;
+  /** {@inheritDoc} */
+  @Override
+  public long[] finish(PrimitiveArrayBuffer.OfLong buffer) {
+    return buffer.toArray();
   }
 
   /** {@inheritDoc} */
@@ -16,11 +16,11 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.deser.BaseNumberXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
@@ -30,7 +30,8 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveShortArrayXMLDeserializer extends AbstractArrayXMLDeserializer<short[]> {
+public class PrimitiveShortArrayXMLDeserializer extends AbstractArrayXMLDeserializer<short[]>
+    implements AccumulatingXMLDeserializer<short[], PrimitiveArrayBuffer.OfShort> {
 
   /**
    * getInstance
@@ -48,19 +49,36 @@ public class PrimitiveShortArrayXMLDeserializer extends AbstractArrayXMLDeserial
   public short[] doDeserializeArray(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<Short> list =
-        deserializeIntoList(
-            reader, ctx, s -> BaseNumberXMLDeserializer.ShortXMLDeserializer.getInstance(), params);
+    PrimitiveArrayBuffer.OfShort buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfShort newAccumulator() {
+    return new PrimitiveArrayBuffer.OfShort();
+  }
 
-    short[] result = new short[list.size()];
-    int i = 0;
-    for (Short value : list) {
-      if (null != value) {
-        result[i] = value;
-      }
-      i++;
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfShort buffer)
+      throws XMLStreamException {
+    int value = reader.nextIsNull() ? 0 : reader.nextInt();
+    if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+      throw new NumberFormatException("Value out of range. Value:\"" + value + "\"");
     }
-    return result;
+    buffer.add((short) value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public short[] finish(PrimitiveArrayBuffer.OfShort buffer) {
+    return buffer.toArray();
   }
 
   /** {@inheritDoc} */
@@ -19,10 +19,13 @@ package org.treblereel.gwt.xml.mapper.api.deser.array.dd;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveArrayBuffer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
 /**
@@ -33,66 +36,115 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  */
 public abstract class AbstractArray2dXMLDeserializer<C> extends XMLDeserializer<C> {
 
-  private final List<List<C>> list = new ArrayList<>();
+  /** the local name of the row elements, or null to read any element as a row */
+  private String rowName;
 
   /**
-   * Deserializes the array into a {@link java.util.List}. We need the length of the array before
-   * creating it.
+   * Sets the local name of the row elements, other elements are not read as rows.
    *
-   * @param reader reader
+   * @param rowName the local name of the row elements
+   * @return this deserializer
+   */
+  public AbstractArray2dXMLDeserializer<C> setRowName(String rowName) {
+    this.rowName = rowName;
+    return this;
+  }
+
+  /**
+   * Tells whether the reader is on the start of a row element.
+   *
+   * @param reader reader positioned on the current element
+   * @return true if the current element is a row
+   */
+  protected boolean isRow(XMLReader reader) throws XMLStreamException {
+    return reader.peek() == XMLStreamConstants.START_ELEMENT
+        && (rowName == null || reader.peekNodeName().getLocalPart().equals(rowName));
+  }
+
+  /**
+   * Reads the current row element and adds its elements to the given rows. We need the length of
+   * the array before creating it.
+   *
+   * @param reader reader positioned on the row element
    * @param ctx context of the deserialization process
    * @param deserializer deserializer for element inside the array
    * @param params Parameters for the deserializer
-   * @param <C> type of the element inside the array
-   * @return a list containing all the elements of the array
+   * @param rows rows read so far
+   * @param <E> type of the element inside the array
    */
-  protected <C> List<List<C>> deserializeIntoList(
+  protected <E> void deserializeRowInto(
       XMLReader reader,
       XMLDeserializationContext ctx,
-      Function<String, XMLDeserializer<C>> deserializer,
-      XMLDeserializerParameters params)
+      Function<String, XMLDeserializer<E>> deserializer,
+      XMLDeserializerParameters params,
+      List<List<E>> rows)
       throws XMLStreamException {
-    return doDeserializeIntoList(reader, ctx, deserializer, params);
+    if (!isRow(reader)) {
+      return;
+    }
+    reader.next();
+    // the rows of a 2D array usually have the same length, the first one has to grow
+    List<E> row =
+        rows.isEmpty() ? new ArrayList<>() : new ArrayList<>(rows.get(rows.size() - 1).size());
+    int counter = 0;
+
+    while (reader.hasNext()) {
+      if (reader.peek() == 1) {
+        counter++;
+        E val =
+            deserializer
+                .apply(inheritanceChooser.get().apply(reader))
+                .deserialize(reader, ctx, params);
+        row.add(val);
+      }
+      if (reader.peek() == 2) {
+        counter--;
+      }
+      if (counter < 0) {
+        rows.add(row);
+        break;
+      }
+      reader.next();
+    }
   }
 
   /**
-   * doDeserializeIntoList
+   * Reads the current row element of a primitive array into the given buffer and ends the row
+   * there, so that no value is boxed and no list is allocated per row.
    *
-   * @param reader a {@link XMLReader} object.
-   * @param ctx a {@link XMLDeserializationContext} object.
-   * @param deserializer a {@link XMLDeserializer} object.
-   * @param params a {@link XMLDeserializerParameters} object.
-   * @param <C> a C object.
-   * @return a {@link java.util.List} object.
+   * @param reader reader positioned on the row element
+   * @param ctx context of the deserialization process
+   * @param elements deserializer of the 1D array, reads a single element at a time
+   * @param params Parameters for the deserializer
+   * @param buffer buffer of the rows read so far
+   * @param <B> type of the buffer
    */
-  protected <C> List<List<C>> doDeserializeIntoList(
+  protected <B extends PrimitiveArrayBuffer> void deserializeRowInto(
       XMLReader reader,
       XMLDeserializationContext ctx,
-      Function<String, XMLDeserializer<C>> deserializer,
-      XMLDeserializerParameters params)
+      AccumulatingXMLDeserializer<?, B> elements,
+      XMLDeserializerParameters params,
+      B buffer)
       throws XMLStreamException {
+    if (!isRow(reader)) {
+      return;
+    }
     reader.next();
-    List temp = new ArrayList<>();
     int counter = 0;
 
     while (reader.hasNext()) {
       if (reader.peek() == 1) {
         counter++;
-        C val =
-            deserializer
-                .apply(inheritanceChooser.get().apply(reader))
-                .deserialize(reader, ctx, params);
-        temp.add(val);
+        elements.accumulate(reader, ctx, params, buffer);
       }
       if (reader.peek() == 2) {
         counter--;
       }
       if (counter < 0) {
-        list.add(temp);
+        buffer.endRow();
         break;
       }
       reader.next();
     }
-    return (List<List<C>>) (Object) list;
   }
 }
@@ -16,12 +16,14 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array.dd;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
 /**
@@ -30,7 +32,8 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class Array2dXMLDeserializer<T> extends AbstractArray2dXMLDeserializer<T[][]> {
+public class Array2dXMLDeserializer<T> extends AbstractArray2dXMLDeserializer<T[][]>
+    implements AccumulatingXMLDeserializer<T[][], List<List<T>>> {
 
   public interface Array2dCreator<T> {
 
@@ -77,8 +80,31 @@ public class Array2dXMLDeserializer<T> extends AbstractArray2dXMLDeserializer<T[
   protected T[][] doDeserialize(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<List<T>> list = deserializeIntoList(reader, ctx, deserializer, params);
+    List<List<T>> list = newAccumulator();
+    accumulate(reader, ctx, params, list);
+    return finish(list);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<List<T>> newAccumulator() {
+    return new ArrayList<>();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      List<List<T>> list)
+      throws XMLStreamException {
+    deserializeRowInto(reader, ctx, deserializer, params, list);
+  }
 
+  /** {@inheritDoc} */
+  @Override
+  public T[][] finish(List<List<T>> list) {
     if (list.isEmpty()) {
       return array2dCreator.create(0, 0);
     }
@@ -16,12 +16,13 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array.dd;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
-import org.treblereel.gwt.xml.mapper.api.deser.BooleanXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveArrayBuffer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveBooleanArrayXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
 /**
@@ -31,7 +32,11 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @version $Id: $
  */
 public class PrimitiveBooleanArray2dXMLDeserializer
-    extends AbstractArray2dXMLDeserializer<boolean[][]> {
+    extends AbstractArray2dXMLDeserializer<boolean[][]>
+    implements AccumulatingXMLDeserializer<boolean[][], PrimitiveArrayBuffer.OfBoolean> {
+
+  private final PrimitiveBooleanArrayXMLDeserializer elements =
+      PrimitiveBooleanArrayXMLDeserializer.getInstance();
 
   /**
    * getInstance
@@ -49,32 +54,31 @@ public class PrimitiveBooleanArray2dXMLDeserializer
   public boolean[][] doDeserialize(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<List<Boolean>> list =
-        deserializeIntoList(reader, ctx, s -> BooleanXMLDeserializer.getInstance(), params);
-
-    if (list.isEmpty()) {
-      return new boolean[0][0];
-    }
+    PrimitiveArrayBuffer.OfBoolean buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
 
-    List<Boolean> firstList = list.get(0);
-    if (firstList.isEmpty()) {
-      return new boolean[list.size()][0];
-    }
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfBoolean newAccumulator() {
+    return new PrimitiveArrayBuffer.OfBoolean();
+  }
 
-    boolean[][] array = new boolean[list.size()][firstList.size()];
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfBoolean buffer)
+      throws XMLStreamException {
+    deserializeRowInto(reader, ctx, elements, params, buffer);
+  }
 
-    int i = 0;
-    int j;
-    for (List<Boolean> innerList : list) {
-      j = 0;
-      for (Boolean value : innerList) {
-        if (null != value) {
-          array[i][j] = value;
-        }
-        j++;
-      }
-      i++;
-    }
-    return array;
+  /** {@inheritDoc} */
+  @Override
+  public boolean[][] finish(PrimitiveArrayBuffer.OfBoolean buffer) {
+    return buffer.toArray2d();
   }
 }
@@ -23,8 +23,8 @@ import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
-import org.treblereel.gwt.xml.mapper.api.utils.Base64Utils;
 
 /**
  * Default {@link XMLDeserializer} implementation for 2D array of byte.
@@ -32,7 +32,8 @@ import org.treblereel.gwt.xml.mapper.api.utils.Base64Utils;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveByteArray2dXMLDeserializer extends AbstractArray2dXMLDeserializer<byte[][]> {
+public class PrimitiveByteArray2dXMLDeserializer extends AbstractArray2dXMLDeserializer<byte[][]>
+    implements AccumulatingXMLDeserializer<byte[][], List<byte[]>> {
 
   private PrimitiveByteArray2dXMLDeserializer() {}
 
@@ -45,43 +46,51 @@ public class PrimitiveByteArray2dXMLDeserializer extends AbstractArray2dXMLDeser
     return new PrimitiveByteArray2dXMLDeserializer();
   }
 
-  private final List<String> strings = new ArrayList<>();
-
   /** {@inheritDoc} */
   @Override
   public byte[][] doDeserialize(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    String tag = ctx.defaultParameters().getTypeInfo().getPropertyName();
+    List<byte[]> rows = newAccumulator();
+    accumulate(reader, ctx, params, rows);
+    return finish(rows);
+  }
 
-    byte[][] result;
+  /** {@inheritDoc} */
+  @Override
+  public List<byte[]> newAccumulator() {
+    return new ArrayList<>();
+  }
 
-    if (reader.peekNodeName().getLocalPart().equals(tag)
-        && reader.peek() == XMLStreamConstants.START_ELEMENT) {
-      strings.add(reader.nextString());
-      reader.next();
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      List<byte[]> rows)
+      throws XMLStreamException {
+    // the bean calls it on the start of each row element
+    if (isRow(reader)) {
+      rows.add(reader.nextBinary());
+      if (reader.peek() != XMLStreamConstants.END_ELEMENT) {
+        reader.next();
+      }
     }
+  }
 
-    if (strings.isEmpty()) {
-      result = new byte[0][0];
-    } else {
-      List<byte[]> list = new ArrayList<>();
-
-      int size = 0;
-      for (String string : strings) {
-        byte[] decoded = Base64Utils.fromBase64(string);
-        size = Math.max(size, decoded.length);
-        list.add(decoded);
-      }
+  /** {@inheritDoc} */
+  @Override
+  public byte[][] finish(List<byte[]> rows) {
+    if (rows.isEmpty()) {
+      return new byte[0][0];
+    }
 
-      result = new byte[list.size()][size];
-      int i = 0;
-      for (byte[] value : list) {
-        if (null != value) {
-          result[i] = value;
-        }
-        i++;
-      }
+    byte[][] result = new byte[rows.size()][];
+    int i = 0;
+    for (byte[] value : rows) {
+      result[i] = value;
+      i++;
     }
     return result;
   }
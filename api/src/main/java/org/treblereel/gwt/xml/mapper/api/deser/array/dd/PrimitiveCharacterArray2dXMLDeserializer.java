@@ -16,12 +16,13 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array.dd;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
-import org.treblereel.gwt.xml.mapper.api.deser.CharacterXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveArrayBuffer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveCharacterArrayXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
 /**
@@ -31,7 +32,11 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @version $Id: $
  */
 public class PrimitiveCharacterArray2dXMLDeserializer
-    extends AbstractArray2dXMLDeserializer<char[][]> {
+    extends AbstractArray2dXMLDeserializer<char[][]>
+    implements AccumulatingXMLDeserializer<char[][], PrimitiveArrayBuffer.OfCharacter> {
+
+  private final PrimitiveCharacterArrayXMLDeserializer elements =
+      PrimitiveCharacterArrayXMLDeserializer.getInstance();
 
   private PrimitiveCharacterArray2dXMLDeserializer() {}
 
@@ -49,32 +54,31 @@ public class PrimitiveCharacterArray2dXMLDeserializer
   public char[][] doDeserialize(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<List<Character>> list =
-        deserializeIntoList(reader, ctx, s -> CharacterXMLDeserializer.getInstance(), params);
-
-    if (list.isEmpty()) {
-      return new char[0][0];
-    }
+    PrimitiveArrayBuffer.OfCharacter buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
 
-    List<Character> firstList = list.get(0);
-    if (firstList.isEmpty()) {
-      return new char[list.size()][0];
-    }
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfCharacter newAccumulator() {
+    return new PrimitiveArrayBuffer.OfCharacter();
+  }
 
-    char[][] array = new char[list.size()][firstList.size()];
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfCharacter buffer)
+      throws XMLStreamException {
+    deserializeRowInto(reader, ctx, elements, params, buffer);
+  }
 
-    int i = 0;
-    int j;
-    for (List<Character> innerList : list) {
-      j = 0;
-      for (Character value : innerList) {
-        if (null != value) {
-          array[i][j] = value;
-        }
-        j++;
-      }
-      i++;
-    }
-    return array;
+  /** {@inheritDoc} */
+  @Override
+  public char[][] finish(PrimitiveArrayBuffer.OfCharacter buffer) {
+    return buffer.toArray2d();
   }
 }
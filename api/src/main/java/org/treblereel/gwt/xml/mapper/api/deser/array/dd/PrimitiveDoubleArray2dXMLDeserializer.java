@@ -16,12 +16,13 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array.dd;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
-import org.treblereel.gwt.xml.mapper.api.deser.BaseNumberXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveArrayBuffer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveDoubleArrayXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
 /**
@@ -31,7 +32,11 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @version $Id: $
  */
 public class PrimitiveDoubleArray2dXMLDeserializer
-    extends AbstractArray2dXMLDeserializer<double[][]> {
+    extends AbstractArray2dXMLDeserializer<double[][]>
+    implements AccumulatingXMLDeserializer<double[][], PrimitiveArrayBuffer.OfDouble> {
+
+  private final PrimitiveDoubleArrayXMLDeserializer elements =
+      PrimitiveDoubleArrayXMLDeserializer.getInstance();
 
   /**
    * getInstance
@@ -49,36 +54,31 @@ public class PrimitiveDoubleArray2dXMLDeserializer
   public double[][] doDeserialize(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<List<Double>> list =
-        deserializeIntoList(
-            reader,
-            ctx,
-            s -> BaseNumberXMLDeserializer.DoubleXMLDeserializer.getInstance(),
-            params);
-
-    if (list.isEmpty()) {
-      return new double[0][0];
-    }
+    PrimitiveArrayBuffer.OfDouble buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
 
-    List<Double> firstList = list.get(0);
-    if (firstList.isEmpty()) {
-      return new double[list.size()][0];
-    }
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfDouble newAccumulator() {
+    return new PrimitiveArrayBuffer.OfDouble();
+  }
 
-    double[][] array = new double[list.size()][firstList.size()];
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfDouble buffer)
+      throws XMLStreamException {
+    deserializeRowInto(reader, ctx, elements, params, buffer);
+  }
 
-    int i = 0;
-    int j;
-    for (List<Double> innerList : list) {
-      j = 0;
-      for (Double value : innerList) {
-        if (null != value) {
-          array[i][j] = value;
-        }
-        j++;
-      }
-      i++;
-    }
-    return array;
+  /** {@inheritDoc} */
+  @Override
+  public double[][] finish(PrimitiveArrayBuffer.OfDouble buffer) {
+    return buffer.toArray2d();
   }
 }
@@ -16,12 +16,13 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array.dd;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
-import org.treblereel.gwt.xml.mapper.api.deser.BaseNumberXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveArrayBuffer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveFloatArrayXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
 /**
@@ -30,8 +31,11 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveFloatArray2dXMLDeserializer
-    extends AbstractArray2dXMLDeserializer<float[][]> {
+public class PrimitiveFloatArray2dXMLDeserializer extends AbstractArray2dXMLDeserializer<float[][]>
+    implements AccumulatingXMLDeserializer<float[][], PrimitiveArrayBuffer.OfFloat> {
+
+  private final PrimitiveFloatArrayXMLDeserializer elements =
+      PrimitiveFloatArrayXMLDeserializer.getInstance();
 
   /**
    * getInstance
@@ -49,33 +53,31 @@ public class PrimitiveFloatArray2dXMLDeserializer
   public float[][] doDeserialize(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<List<Float>> list =
-        deserializeIntoList(
-            reader, ctx, s -> BaseNumberXMLDeserializer.FloatXMLDeserializer.getInstance(), params);
-
-    if (list.isEmpty()) {
-      return new float[0][0];
-    }
+    PrimitiveArrayBuffer.OfFloat buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
 
-    List<Float> firstList = list.get(0);
-    if (firstList.isEmpty()) {
-      return new float[list.size()][0];
-    }
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfFloat newAccumulator() {
+    return new PrimitiveArrayBuffer.OfFloat();
+  }
 
-    float[][] array = new float[list.size()][firstList.size()];
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfFloat buffer)
+      throws XMLStreamException {
+    deserializeRowInto(reader, ctx, elements, params, buffer);
+  }
 
-    int i = 0;
-    int j;
-    for (List<Float> innerList : list) {
-      j = 0;
-      for (Float value : innerList) {
-        if (null != value) {
-          array[i][j] = value;
-        }
-        j++;
-      }
-      i++;
-    }
-    return array;
+  /** {@inheritDoc} */
+  @Override
+  public float[][] finish(PrimitiveArrayBuffer.OfFloat buffer) {
+    return buffer.toArray2d();
   }
 }
@@ -16,12 +16,13 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array.dd;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
-import org.treblereel.gwt.xml.mapper.api.deser.BaseNumberXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveArrayBuffer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveIntegerArrayXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
 /**
@@ -30,8 +31,11 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveIntegerArray2dXMLDeserializer
-    extends AbstractArray2dXMLDeserializer<int[][]> {
+public class PrimitiveIntegerArray2dXMLDeserializer extends AbstractArray2dXMLDeserializer<int[][]>
+    implements AccumulatingXMLDeserializer<int[][], PrimitiveArrayBuffer.OfInteger> {
+
+  private final PrimitiveIntegerArrayXMLDeserializer elements =
+      PrimitiveIntegerArrayXMLDeserializer.getInstance();
 
   /**
    * getInstance
@@ -49,36 +53,31 @@ public class PrimitiveIntegerArray2dXMLDeserializer
   public int[][] doDeserialize(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<List<Integer>> list =
-        deserializeIntoList(
-            reader,
-            ctx,
-            s -> BaseNumberXMLDeserializer.IntegerXMLDeserializer.getInstance(),
-            params);
-
-    if (list.isEmpty()) {
-      return new int[0][0];
-    }
+    PrimitiveArrayBuffer.OfInteger buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
 
-    List<Integer> firstList = list.get(0);
-    if (firstList.isEmpty()) {
-      return new int[list.size()][0];
-    }
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfInteger newAccumulator() {
+    return new PrimitiveArrayBuffer.OfInteger();
+  }
 
-    int[][] array = new int[list.size()][firstList.size()];
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfInteger buffer)
+      throws XMLStreamException {
+    deserializeRowInto(reader, ctx, elements, params, buffer);
+  }
 
-    int i = 0;
-    int j;
-    for (List<Integer> innerList : list) {
-      j = 0;
-      for (Integer value : innerList) {
-        if (null != value) {
-          array[i][j] = value;
-        }
-        j++;
-      }
-      i++;
-    }
-    return array;
+  /** {@inheritDoc} */
+  @Override
+  public int[][] finish(PrimitiveArrayBuffer.OfInteger buffer) {
+    return buffer.toArray2d();
   }
 }
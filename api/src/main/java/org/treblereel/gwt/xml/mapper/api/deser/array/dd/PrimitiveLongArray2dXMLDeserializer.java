@@ -16,12 +16,13 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array.dd;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
-import org.treblereel.gwt.xml.mapper.api.deser.BaseNumberXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveArrayBuffer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveLongArrayXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
 /**
@@ -30,7 +31,11 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveLongArray2dXMLDeserializer extends AbstractArray2dXMLDeserializer<long[][]> {
+public class PrimitiveLongArray2dXMLDeserializer extends AbstractArray2dXMLDeserializer<long[][]>
+    implements AccumulatingXMLDeserializer<long[][], PrimitiveArrayBuffer.OfLong> {
+
+  private final PrimitiveLongArrayXMLDeserializer elements =
+      PrimitiveLongArrayXMLDeserializer.getInstance();
 
   /**
    * getInstance
@@ -48,33 +53,31 @@ public class PrimitiveLongArray2dXMLDeserializer extends AbstractArray2dXMLDeser
   public long[][] doDeserialize(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<List<Long>> list =
-        deserializeIntoList(
-            reader, ctx, s -> BaseNumberXMLDeserializer.LongXMLDeserializer.getInstance(), params);
-
-    if (list.isEmpty()) {
-      return new long[0][0];
-    }
+    PrimitiveArrayBuffer.OfLong buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
 
-    List<Long> firstList = list.get(0);
-    if (firstList.isEmpty()) {
-      return new long[list.size()][0];
-    }
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfLong newAccumulator() {
+    return new PrimitiveArrayBuffer.OfLong();
+  }
 
-    long[][] array = new long[list.size()][firstList.size()];
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfLong buffer)
+      throws XMLStreamException {
+    deserializeRowInto(reader, ctx, elements, params, buffer);
+  }
 
-    int i = 0;
-    int j;
-    for (List<Long> innerList : list) {
-      j = 0;
-      for (Long value : innerList) {
-        if (null != value) {
-          array[i][j] = value;
-        }
-        j++;
-      }
-      i++;
-    }
-    return array;
+  /** {@inheritDoc} */
+  @Override
+  public long[][] finish(PrimitiveArrayBuffer.OfLong buffer) {
+    return buffer.toArray2d();
   }
 }
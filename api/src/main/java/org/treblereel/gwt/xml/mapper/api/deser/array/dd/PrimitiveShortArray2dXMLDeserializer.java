@@ -16,12 +16,13 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.array.dd;
 
-import java.util.List;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
-import org.treblereel.gwt.xml.mapper.api.deser.BaseNumberXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveArrayBuffer;
+import org.treblereel.gwt.xml.mapper.api.deser.array.PrimitiveShortArrayXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
 /**
@@ -30,8 +31,11 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public class PrimitiveShortArray2dXMLDeserializer
-    extends AbstractArray2dXMLDeserializer<short[][]> {
+public class PrimitiveShortArray2dXMLDeserializer extends AbstractArray2dXMLDeserializer<short[][]>
+    implements AccumulatingXMLDeserializer<short[][], PrimitiveArrayBuffer.OfShort> {
+
+  private final PrimitiveShortArrayXMLDeserializer elements =
+      PrimitiveShortArrayXMLDeserializer.getInstance();
 
   /**
    * getInstance
@@ -49,33 +53,31 @@ public class PrimitiveShortArray2dXMLDeserializer
   public short[][] doDeserialize(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    List<List<Short>> list =
-        deserializeIntoList(
-            reader, ctx, s -> BaseNumberXMLDeserializer.ShortXMLDeserializer.getInstance(), params);
-
-    if (list.isEmpty()) {
-      return new short[0][0];
-    }
+    PrimitiveArrayBuffer.OfShort buffer = newAccumulator();
+    accumulate(reader, ctx, params, buffer);
+    return finish(buffer);
+  }
 
-    List<Short> firstList = list.get(0);
-    if (firstList.isEmpty()) {
-      return new short[list.size()][0];
-    }
+  /** {@inheritDoc} */
+  @Override
+  public PrimitiveArrayBuffer.OfShort newAccumulator() {
+    return new PrimitiveArrayBuffer.OfShort();
+  }
 
-    short[][] array = new short[list.size()][firstList.size()];
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      PrimitiveArrayBuffer.OfShort buffer)
+      throws XMLStreamException {
+    deserializeRowInto(reader, ctx, elements, params, buffer);
+  }
 
-    int i = 0;
-    int j;
-    for (List<Short> innerList : list) {
-      j = 0;
-      for (Short value : innerList) {
-        if (null != value) {
-          array[i][j] = value;
-        }
-        j++;
-      }
-      i++;
-    }
-    return array;
+  /** {@inheritDoc} */
+  @Override
+  public short[][] finish(PrimitiveArrayBuffer.OfShort buffer) {
+    return buffer.toArray2d();
   }
 }
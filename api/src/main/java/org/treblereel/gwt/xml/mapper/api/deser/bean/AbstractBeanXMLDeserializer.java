@@ -16,6 +16,7 @@
 
 package org.treblereel.gwt.xml.mapper.api.deser.bean;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamConstants;
@@ -24,6 +25,7 @@ import org.treblereel.gwt.xml.mapper.api.MapperContextProvider;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
 /**
@@ -37,7 +39,9 @@ public abstract class AbstractBeanXMLDeserializer<T> extends XMLDeserializer<T>
 
   protected final InstanceBuilder<T> instanceBuilder;
   private final IdentityDeserializationInfo defaultIdentityInfo;
-  private MapLike<BeanPropertyDeserializer<T, ?>> deserializers;
+
+  /** Built on first use from {@link #initDeserializers()}, only when no dispatch is generated. */
+  private volatile Properties<T> properties;
 
   /** Constructor for AbstractBeanXMLDeserializer. */
   protected AbstractBeanXMLDeserializer() {
@@ -68,7 +72,6 @@ public abstract class AbstractBeanXMLDeserializer<T> extends XMLDeserializer<T>
   public T doDeserialize(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
-    deserializers = initDeserializers();
     // Processing the parameters. We fallback to default if parameter is not present.
     final IdentityDeserializationInfo identityInfo =
         null == params.getIdentityInfo() ? defaultIdentityInfo : params.getIdentityInfo();
@@ -77,7 +80,8 @@ public abstract class AbstractBeanXMLDeserializer<T> extends XMLDeserializer<T>
 
   /**
    * Initialize the {@link MapLike} containing the property deserializers. Returns an empty map if
-   * there are no properties to deserialize.
+   * there are no properties to deserialize. It is called once per deserializer instance, on first
+   * use, and the result must not be modified afterwards.
    *
    * @return a {@link MapLike} object.
    */
@@ -130,47 +134,47 @@ public abstract class AbstractBeanXMLDeserializer<T> extends XMLDeserializer<T>
     if (reader.getAttributeCount() > 0) {
       for (int i = 0; i < reader.getAttributeCount(); i++) {
         String propertyName = getPropertyName(reader.getAttributeName(i));
-        BeanPropertyDeserializer<T, ?> property = deserializers.get(propertyName);
+        BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer(propertyName);
         if (property != null) {
           processed = true;
-          if (reader.getAttributeValue(i) != null)
-            ctx.defaultParameters().setTypeInfo(new TypeDeserializationInfo<T>(propertyName));
           property.deserialize(reader.getAttributeValue(i), instance, ctx);
         }
       }
     }
     T result = null;
 
-    if (deserializers.get("$CDATA") != null) {
-      deserializers.get("$CDATA").deserialize(reader, instance, ctx);
+    BeanPropertyDeserializer<T, ?> cdata = getPropertyDeserializer("$CDATA");
+    if (cdata != null) {
+      cdata.deserialize(reader, instance, ctx);
       processed = true;
       // Following properties could be skipped
     } else if (getXmlValuePropertyName() != null) {
       String xmlValue = getXmlValuePropertyName();
 
-      initDeserializers().get(xmlValue).deserialize(reader, instance, ctx);
+      getPropertyDeserializer(xmlValue).deserialize(reader, instance, ctx);
       processed = true;
     } else {
+      // repeated elements are collected for this bean only, the deserializers hold no state
+      final Accumulations<T> accumulations =
+          hasAccumulatingProperties() ? new Accumulations<>() : null;
       result =
           ctx.iterator()
               .iterateOverBean(
                   reader,
                   (reader1, propertyName, ctx1, bean) -> {
-                    if (!propertyName.getLocalPart().equals(getRootNodeName())) {
-                      BeanPropertyDeserializer<T, ?> property =
-                          getPropertyDeserializer(propertyName.getLocalPart(), ctx1);
-                      if (property != null) {
-                        ctx1.defaultParameters()
-                            .setTypeInfo(
-                                new TypeDeserializationInfo<>(propertyName.getLocalPart()));
-                        property.deserialize(reader1, bean, ctx1);
-                      }
+                    String localName = propertyName.getLocalPart();
+                    if (!localName.equals(getRootNodeName())
+                        && !deserializeProperty(localName, reader1, bean, ctx1, accumulations)) {
+                      unknownProperty(localName, ctx1, reader1);
                     }
                     return bean;
                   },
                   instance,
                   ctx,
                   params);
+      if (accumulations != null) {
+        accumulations.finish(instance, ctx);
+      }
     }
     if (result == null && processed) {
       return instance;
@@ -204,17 +208,83 @@ public abstract class AbstractBeanXMLDeserializer<T> extends XMLDeserializer<T>
    */
   public abstract Class getDeserializedType();
 
-  private BeanPropertyDeserializer<T, ?> getPropertyDeserializer(
-      String propertyName, XMLDeserializationContext ctx) throws XMLStreamException {
-    BeanPropertyDeserializer<T, ?> property = deserializers.get(propertyName);
-    if (null == property && ctx.isFailOnUnknownProperties()) {
+  /**
+   * Returns the deserializer of the attribute, CDATA or XML value property with the given name, or
+   * null if there is none. Generated deserializers override it with a switch over those properties,
+   * this implementation looks the name up in the {@link MapLike} from {@link #initDeserializers()}.
+   *
+   * @param propertyName the local name of the attribute or element
+   * @return a {@link BeanPropertyDeserializer} object.
+   */
+  protected BeanPropertyDeserializer<T, ?> getPropertyDeserializer(String propertyName) {
+    return getProperties().deserializers.get(propertyName);
+  }
+
+  /**
+   * Reads the child element with the given local name into the bean. Generated deserializers
+   * override it with a switch over their element properties that calls the setters directly, this
+   * implementation looks the property up with {@link #getPropertyDeserializer(String)}.
+   *
+   * @param propertyName the local name of the element
+   * @param reader reader positioned on the element
+   * @param bean the bean being read
+   * @param ctx context of the deserialization process
+   * @param accumulations the repeated elements read so far, null if {@link
+   *     #hasAccumulatingProperties()} is false
+   * @return false if the bean has no such property
+   */
+  protected boolean deserializeProperty(
+      String propertyName,
+      XMLReader reader,
+      T bean,
+      XMLDeserializationContext ctx,
+      Accumulations<T> accumulations)
+      throws XMLStreamException {
+    BeanPropertyDeserializer<T, ?> property = getPropertyDeserializer(propertyName);
+    if (property == null) {
+      return false;
+    }
+    if (property.isAccumulating()) {
+      accumulations.accumulate(property, reader, bean, ctx);
+    } else {
+      property.deserialize(reader, bean, ctx);
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if a property of the bean collects repeated elements, see {@link
+   * BeanPropertyDeserializer#isAccumulating()}. Generated deserializers override it with a
+   * constant, this implementation checks the {@link MapLike} from {@link #initDeserializers()}.
+   *
+   * @return true if the bean has accumulating properties
+   */
+  protected boolean hasAccumulatingProperties() {
+    return getProperties().accumulating;
+  }
+
+  private Properties<T> getProperties() {
+    Properties<T> result = properties;
+    if (result == null) {
+      result = new Properties<>(initDeserializers());
+      properties = result;
+    }
+    return result;
+  }
+
+  private void unknownProperty(String propertyName, XMLDeserializationContext ctx, XMLReader reader)
+      throws XMLStreamException {
+    if (ctx.isFailOnUnknownProperties()) {
       throw ctx.traceError(
           "Unknown property '"
               + propertyName
               + "' in (de)serializer "
-              + this.getClass().getCanonicalName());
+              + this.getClass().getCanonicalName(),
+          reader);
+    }
+    if (reader.peek() == XMLStreamConstants.START_ELEMENT) {
+      reader.skipElement();
     }
-    return property;
   }
 
   /** {@inheritDoc} */
@@ -222,4 +292,94 @@ public abstract class AbstractBeanXMLDeserializer<T> extends XMLDeserializer<T>
   public AbstractBeanXMLDeserializer<T> getDeserializer() {
     return this;
   }
+
+  /**
+   * Repeated elements of the accumulating properties of one bean, collected while the bean is read.
+   * The values are set in the order the properties first appear in the document.
+   */
+  public static final class Accumulations<T> {
+
+    private final Map<BeanPropertyDeserializer<T, ?>, Accumulation<T, ?, ?>> accumulations =
+        new LinkedHashMap<>();
+
+    private Accumulations() {}
+
+    /**
+     * Reads the current element of the given property.
+     *
+     * @param property the accumulating property
+     * @param reader reader positioned on the element
+     * @param bean the bean being read
+     * @param ctx context of the deserialization process
+     * @param <V> type of the property
+     */
+    public <V> void accumulate(
+        BeanPropertyDeserializer<T, V> property,
+        XMLReader reader,
+        T bean,
+        XMLDeserializationContext ctx)
+        throws XMLStreamException {
+      Accumulation<T, V, ?> accumulation = (Accumulation<T, V, ?>) accumulations.get(property);
+      if (accumulation == null) {
+        XMLDeserializer<V> deserializer = property.getDeserializer(reader);
+        if (!(deserializer instanceof AccumulatingXMLDeserializer)) {
+          // wrapped collections and base64 arrays are read in one call
+          property.deserialize(reader, bean, ctx);
+          return;
+        }
+        accumulation =
+            new Accumulation<>(property, (AccumulatingXMLDeserializer<V, Object>) deserializer);
+        accumulations.put(property, accumulation);
+      }
+      accumulation.accumulate(reader, ctx);
+    }
+
+    private void finish(T bean, XMLDeserializationContext ctx) {
+      for (Accumulation<T, ?, ?> accumulation : accumulations.values()) {
+        accumulation.finish(bean, ctx);
+      }
+    }
+  }
+
+  /** Repeated elements of one property, collected while a bean is read. */
+  private static final class Accumulation<T, V, A> {
+
+    private final BeanPropertyDeserializer<T, V> property;
+    private final AccumulatingXMLDeserializer<V, A> deserializer;
+    private final A accumulator;
+
+    private Accumulation(
+        BeanPropertyDeserializer<T, V> property, AccumulatingXMLDeserializer<V, A> deserializer) {
+      this.property = property;
+      this.deserializer = deserializer;
+      this.accumulator = deserializer.newAccumulator();
+    }
+
+    private void accumulate(XMLReader reader, XMLDeserializationContext ctx)
+        throws XMLStreamException {
+      deserializer.accumulate(reader, ctx, property.getParameters(), accumulator);
+    }
+
+    private void finish(T bean, XMLDeserializationContext ctx) {
+      V value = deserializer.finish(accumulator);
+      if (value != null) {
+        property.setValue(bean, value, ctx);
+      }
+    }
+  }
+
+  private static final class Properties<T> {
+
+    private final MapLike<BeanPropertyDeserializer<T, ?>> deserializers;
+    private final boolean accumulating;
+
+    private Properties(MapLike<BeanPropertyDeserializer<T, ?>> deserializers) {
+      this.deserializers = deserializers;
+      boolean accumulating = false;
+      for (String key : deserializers.keys()) {
+        accumulating |= deserializers.get(key).isAccumulating();
+      }
+      this.accumulating = accumulating;
+    }
+  }
 }
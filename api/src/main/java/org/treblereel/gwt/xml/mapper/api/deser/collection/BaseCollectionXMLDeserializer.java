@@ -22,6 +22,7 @@ import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.AccumulatingXMLDeserializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLIterator;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
@@ -34,9 +35,7 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  * @version $Id: $
  */
 public abstract class BaseCollectionXMLDeserializer<C extends Collection<T>, T>
-    extends BaseIterableXMLDeserializer<C, T> {
-
-  C collection = newCollection();
+    extends BaseIterableXMLDeserializer<C, T> implements AccumulatingXMLDeserializer<C, C> {
 
   /**
    * Constructor for BaseCollectionXMLDeserializer.
@@ -53,7 +52,25 @@ public abstract class BaseCollectionXMLDeserializer<C extends Collection<T>, T>
   public C doDeserialize(
       XMLReader reader, XMLDeserializationContext ctx, XMLDeserializerParameters params)
       throws XMLStreamException {
+    C collection = newCollection();
+    accumulate(reader, ctx, params, collection);
+    return collection;
+  }
 
+  /** {@inheritDoc} */
+  @Override
+  public C newAccumulator() {
+    return newCollection();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void accumulate(
+      XMLReader reader,
+      XMLDeserializationContext ctx,
+      XMLDeserializerParameters params,
+      C collection)
+      throws XMLStreamException {
     XMLIterator.Scanner scanner =
         (XMLIterator.Scanner<C>)
             (reader1, ctx1, instance) -> {
@@ -66,15 +83,15 @@ public abstract class BaseCollectionXMLDeserializer<C extends Collection<T>, T>
               }
               return null;
             };
-    return (C)
-        ctx.iterator()
-            .iterateOverCollection(
-                reader,
-                isWrapCollections ? ((Collection<C>) newCollection()) : (Collection<C>) collection,
-                scanner,
-                ctx,
-                params,
-                isWrapCollections);
+    ctx.iterator()
+        .iterateOverCollection(
+            reader, (Collection<C>) collection, scanner, ctx, params, isWrapCollections);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public C finish(C collection) {
+    return collection;
   }
 
   /**
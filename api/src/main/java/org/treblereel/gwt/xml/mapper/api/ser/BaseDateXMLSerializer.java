@@ -43,13 +43,11 @@ public abstract class BaseDateXMLSerializer<D extends Date> extends XMLSerialize
   /** Default implementation of {@link BaseDateXMLSerializer} for {@link Date} */
   public static final class DateXMLSerializer extends BaseDateXMLSerializer<Date> {
 
-    private static final DateXMLSerializer INSTANCE = new DateXMLSerializer();
-
     private DateXMLSerializer() {}
 
     /** @return an instance of {@link DateXMLSerializer} */
     public static DateXMLSerializer getInstance() {
-      return INSTANCE;
+      return new DateXMLSerializer();
     }
 
     @Override
@@ -66,7 +64,6 @@ public abstract class BaseDateXMLSerializer<D extends Date> extends XMLSerialize
 
       if (isAttribute) {
         writeAttribute(writer, date);
-        isAttribute = false;
       } else {
         writeValue(writer, date);
       }
@@ -76,13 +73,11 @@ public abstract class BaseDateXMLSerializer<D extends Date> extends XMLSerialize
   /** Default implementation of {@link BaseDateXMLSerializer} for {@link java.sql.Date} */
   public static final class SqlDateXMLSerializer extends BaseDateXMLSerializer<java.sql.Date> {
 
-    private static final SqlDateXMLSerializer INSTANCE = new SqlDateXMLSerializer();
-
     private SqlDateXMLSerializer() {}
 
     /** @return an instance of {@link SqlDateXMLSerializer} */
     public static SqlDateXMLSerializer getInstance() {
-      return INSTANCE;
+      return new SqlDateXMLSerializer();
     }
 
     @Override
@@ -94,7 +89,6 @@ public abstract class BaseDateXMLSerializer<D extends Date> extends XMLSerialize
         throws XMLStreamException {
       if (isAttribute) {
         writer.writeAttribute(propertyName, value.toString());
-        isAttribute = false;
       } else {
         writer.unescapeValue(value.toString());
       }
@@ -104,13 +98,11 @@ public abstract class BaseDateXMLSerializer<D extends Date> extends XMLSerialize
   /** Default implementation of {@link BaseDateXMLSerializer} for {@link Date} */
   public static final class SqlTimeXMLSerializer extends BaseDateXMLSerializer<Time> {
 
-    private static final SqlTimeXMLSerializer INSTANCE = new SqlTimeXMLSerializer();
-
     private SqlTimeXMLSerializer() {}
 
     /** @return an instance of {@link SqlTimeXMLSerializer} */
     public static SqlTimeXMLSerializer getInstance() {
-      return INSTANCE;
+      return new SqlTimeXMLSerializer();
     }
 
     @Override
@@ -119,7 +111,6 @@ public abstract class BaseDateXMLSerializer<D extends Date> extends XMLSerialize
         throws XMLStreamException {
       if (isAttribute) {
         writer.writeAttribute(propertyName, value.toString());
-        isAttribute = false;
       } else {
         writer.unescapeValue(value.toString());
       }
@@ -129,13 +120,11 @@ public abstract class BaseDateXMLSerializer<D extends Date> extends XMLSerialize
   /** Default implementation of {@link BaseDateXMLSerializer} for {@link Timestamp} */
   public static final class SqlTimestampXMLSerializer extends BaseDateXMLSerializer<Timestamp> {
 
-    private static final SqlTimestampXMLSerializer INSTANCE = new SqlTimestampXMLSerializer();
-
     private SqlTimestampXMLSerializer() {}
 
     /** @return an instance of {@link SqlTimestampXMLSerializer} */
     public static SqlTimestampXMLSerializer getInstance() {
-      return INSTANCE;
+      return new SqlTimestampXMLSerializer();
     }
 
     @Override
@@ -147,7 +136,6 @@ public abstract class BaseDateXMLSerializer<D extends Date> extends XMLSerialize
         throws XMLStreamException {
       if (isAttribute) {
         writer.writeAttribute(propertyName, value.getTime() + "");
-        isAttribute = false;
       } else {
         if (ctx.isWriteDatesAsTimestamps()) {
           writer.value(value.getTime());
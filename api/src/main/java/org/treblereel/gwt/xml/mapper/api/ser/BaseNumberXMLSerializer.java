@@ -39,12 +39,71 @@ public abstract class BaseNumberXMLSerializer<N extends Number> extends XMLSeria
       throws XMLStreamException {
     if (isAttribute) {
       writeAttribute(writer, value.toString());
-      isAttribute = false;
     } else {
       writeValue(writer, value.toString());
     }
   }
 
+  /**
+   * Serializes a primitive value without boxing it, the serializers generated for primitive
+   * properties call it. It is written like the boxed value.
+   *
+   * @param writer {@link XMLWriter} used to write the serialized XML
+   * @param value the value, a byte, short or int
+   * @param ctx Context for the full serialization process
+   * @param params Parameters for this serialization
+   */
+  public void serialize(
+      XMLWriter writer, int value, XMLSerializationContext ctx, XMLSerializerParameters params)
+      throws XMLStreamException {
+    if (isAttribute) {
+      writeAttribute(writer, Integer.toString(value));
+    } else {
+      beginObject(writer);
+      writer.writeInt(value);
+      endObject(writer);
+    }
+  }
+
+  /** See {@link #serialize(XMLWriter, int, XMLSerializationContext, XMLSerializerParameters)}. */
+  public void serialize(
+      XMLWriter writer, long value, XMLSerializationContext ctx, XMLSerializerParameters params)
+      throws XMLStreamException {
+    if (isAttribute) {
+      writeAttribute(writer, Long.toString(value));
+    } else {
+      beginObject(writer);
+      writer.writeLong(value);
+      endObject(writer);
+    }
+  }
+
+  /** See {@link #serialize(XMLWriter, int, XMLSerializationContext, XMLSerializerParameters)}. */
+  public void serialize(
+      XMLWriter writer, float value, XMLSerializationContext ctx, XMLSerializerParameters params)
+      throws XMLStreamException {
+    if (isAttribute) {
+      writeAttribute(writer, Float.toString(value));
+    } else {
+      beginObject(writer);
+      writer.writeFloat(value);
+      endObject(writer);
+    }
+  }
+
+  /** See {@link #serialize(XMLWriter, int, XMLSerializationContext, XMLSerializerParameters)}. */
+  public void serialize(
+      XMLWriter writer, double value, XMLSerializationContext ctx, XMLSerializerParameters params)
+      throws XMLStreamException {
+    if (isAttribute) {
+      writeAttribute(writer, params.doubleValue(value));
+    } else {
+      beginObject(writer);
+      writer.writeDouble(value);
+      endObject(writer);
+    }
+  }
+
   /** Default implementation of {@link BaseNumberXMLSerializer} for {@link BigDecimal} */
   public static final class BigDecimalXMLSerializer extends BaseNumberXMLSerializer<BigDecimal> {
 
@@ -95,7 +154,6 @@ public abstract class BaseNumberXMLSerializer<N extends Number> extends XMLSeria
       // writer has a special method to write double, let's use instead of default Number method.
       if (isAttribute) {
         writeAttribute(writer, params.doubleValue(value));
-        isAttribute = false;
       } else {
         writeValue(writer, value.toString());
       }
@@ -141,7 +199,6 @@ public abstract class BaseNumberXMLSerializer<N extends Number> extends XMLSeria
       // writer has a special method to write long, let's use instead of default Number method.
       if (isAttribute) {
         writeAttribute(writer, value.toString());
-        isAttribute = false;
       } else {
         writeValue(writer, value.toString());
       }
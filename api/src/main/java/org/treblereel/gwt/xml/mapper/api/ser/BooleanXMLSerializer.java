@@ -48,9 +48,29 @@ public class BooleanXMLSerializer extends XMLSerializer<Boolean> {
       throws XMLStreamException {
     if (isAttribute) {
       writeAttribute(writer, value.toString());
-      isAttribute = false;
     } else {
       writeValue(writer, value.toString());
     }
   }
+
+  /**
+   * Serializes a primitive value without boxing it, the serializers generated for primitive
+   * properties call it.
+   *
+   * @param writer {@link XMLWriter} used to write the serialized XML
+   * @param value the value
+   * @param ctx Context for the full serialization process
+   * @param params Parameters for this serialization
+   */
+  public void serialize(
+      XMLWriter writer, boolean value, XMLSerializationContext ctx, XMLSerializerParameters params)
+      throws XMLStreamException {
+    if (isAttribute) {
+      writeAttribute(writer, value ? "true" : "false");
+    } else {
+      beginObject(writer);
+      writer.writeBoolean(value);
+      endObject(writer);
+    }
+  }
 }
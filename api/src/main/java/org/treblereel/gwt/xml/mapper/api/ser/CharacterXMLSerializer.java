@@ -58,7 +58,6 @@ public class CharacterXMLSerializer extends XMLSerializer<Character> {
 
     if (isAttribute) {
       writeAttribute(writer, _value);
-      isAttribute = false;
     } else {
       writeValue(writer, _value);
     }
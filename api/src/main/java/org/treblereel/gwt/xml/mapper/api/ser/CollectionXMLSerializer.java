@@ -23,6 +23,7 @@ import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
 import org.treblereel.gwt.xml.mapper.api.ser.array.BasicArrayXMLSerializer;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLName;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -35,7 +36,7 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 public class CollectionXMLSerializer<C extends Collection<T>, T>
     extends BasicArrayXMLSerializer<C> {
 
-  private final Function<Class, XMLSerializer<T>> serializer;
+  private final XMLSerializerCache<T> serializers;
 
   /**
    * Constructor for CollectionXMLSerializer.
@@ -51,8 +52,11 @@ public class CollectionXMLSerializer<C extends Collection<T>, T>
     if (null == propertyName) {
       throw new IllegalArgumentException("propertyName cannot be null");
     }
-    this.serializer = serializer;
+    this.serializers =
+        new XMLSerializerCache<>(
+            type -> serializer.apply(type).setPropertyName(xmlName).setParent(parent));
     this.propertyName = propertyName;
+    this.xmlName = XMLName.of(propertyName);
   }
 
   /**
@@ -82,11 +86,7 @@ public class CollectionXMLSerializer<C extends Collection<T>, T>
     }
     beginObject(writer, isWrapCollections);
     for (T value : values) {
-      serializer
-          .apply(value.getClass())
-          .setParent(parent)
-          .setPropertyName(propertyName)
-          .serialize(writer, value, ctx, params);
+      serializers.get(value.getClass()).serialize(writer, value, ctx, params);
     }
     endObject(writer, isWrapCollections);
   }
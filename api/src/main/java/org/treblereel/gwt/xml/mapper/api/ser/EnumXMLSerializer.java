@@ -56,7 +56,6 @@ public class EnumXMLSerializer<E extends Enum<E>> extends XMLSerializer<E> {
     String name = func.apply(value);
     if (isAttribute) {
       writeAttribute(writer, name);
-      isAttribute = false;
     } else {
       writeValue(writer, name);
     }
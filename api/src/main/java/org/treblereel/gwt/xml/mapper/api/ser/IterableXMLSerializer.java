@@ -61,6 +61,12 @@ public class IterableXMLSerializer<I extends Iterable<T>, T> extends XMLSerializ
   }
 
   /** {@inheritDoc} */
+  @Override
+  public XMLSerializer setParent(XMLSerializer parent) {
+    serializer.setParent(parent);
+    return super.setParent(parent);
+  }
+
   @Override
   protected boolean isEmpty(I value) {
     return null == value || !value.iterator().hasNext();
@@ -85,7 +91,7 @@ public class IterableXMLSerializer<I extends Iterable<T>, T> extends XMLSerializ
 
     writer.beginArray();
     while (iterator.hasNext()) {
-      serializer.setParent(parent).serialize(writer, iterator.next(), ctx, params);
+      serializer.serialize(writer, iterator.next(), ctx, params);
     }
     writer.endArray();
   }
@@ -49,7 +49,6 @@ public class UUIDXMLSerializer extends XMLSerializer<UUID> {
       throws XMLStreamException {
     if (isAttribute) {
       writeAttribute(writer, value.toString());
-      isAttribute = false;
     } else {
       writeValue(writer, value.toString());
     }
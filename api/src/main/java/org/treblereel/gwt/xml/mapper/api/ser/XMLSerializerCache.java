@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.treblereel.gwt.xml.mapper.api.ser;
+
+import java.util.function.Function;
+import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
+
+/**
+ * Keeps the {@link XMLSerializer} created for each runtime class of a property or element, so that
+ * values of a class already seen are written without creating and configuring a new serializer.
+ *
+ * <p>A serializer is configured by the factory before it is cached and must not be changed
+ * afterwards. A property usually sees only a few classes, they are kept in a copy-on-write array
+ * and looked up by identity.
+ *
+ * @param <T> Type of the serialized values
+ */
+public class XMLSerializerCache<T> {
+
+  private static final Object[] EMPTY = new Object[0];
+
+  private final Function<Class, XMLSerializer<T>> factory;
+
+  /** the classes and their serializers, in turn */
+  private volatile Object[] entries = EMPTY;
+
+  /**
+   * Constructor for XMLSerializerCache.
+   *
+   * @param factory creates and configures the serializer for a class
+   */
+  public XMLSerializerCache(Function<Class, XMLSerializer<T>> factory) {
+    if (null == factory) {
+      throw new IllegalArgumentException("factory cannot be null");
+    }
+    this.factory = factory;
+  }
+
+  /**
+   * Returns the serializer for the given class, creating it on first use.
+   *
+   * @param type the runtime class of the value, may be null
+   * @return a {@link XMLSerializer} object.
+   */
+  public XMLSerializer<T> get(Class type) {
+    Object[] current = entries;
+    for (int i = 0; i < current.length; i += 2) {
+      if (current[i] == type) {
+        return (XMLSerializer<T>) current[i + 1];
+      }
+    }
+    XMLSerializer<T> serializer = factory.apply(type);
+    Object[] updated = new Object[current.length + 2];
+    System.arraycopy(current, 0, updated, 0, current.length);
+    updated[current.length] = type;
+    updated[current.length + 1] = serializer;
+    // a concurrent miss may drop an entry, it is created again on its next use
+    entries = updated;
+    return serializer;
+  }
+}
@@ -46,11 +46,17 @@ public class XmlElementWrapperSerializer<T> extends XMLSerializer<T> {
     } else {
       writer.beginObject(name);
     }
-    internalXMLSerializer.setParent(parent).serialize(writer, value, ctx, params);
+    internalXMLSerializer.serialize(writer, value, ctx, params);
     writer.endObject();
   }
 
   /** {@inheritDoc} */
+  @Override
+  public XMLSerializer setParent(XMLSerializer parent) {
+    internalXMLSerializer.setParent(parent);
+    return super.setParent(parent);
+  }
+
   @Override
   protected boolean isEmpty(T value) {
     return null == value;
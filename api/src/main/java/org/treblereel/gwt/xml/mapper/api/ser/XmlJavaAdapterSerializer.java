@@ -21,6 +21,7 @@ import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLName;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /** @author Dmitrii Tikhomirov Created by treblereel 9/29/20 */
@@ -40,9 +41,18 @@ public class XmlJavaAdapterSerializer<T, V> extends XMLSerializer<T> {
   public void doSerialize(
       XMLWriter writer, T value, XMLSerializationContext ctx, XMLSerializerParameters params)
       throws XMLStreamException {
-    internalXMLSerializer
-        .setParent(parent)
-        .setPropertyName(propertyName)
-        .serialize(writer, converter.apply(value), ctx, params);
+    internalXMLSerializer.serialize(writer, converter.apply(value), ctx, params);
+  }
+
+  @Override
+  public XMLSerializer setParent(XMLSerializer parent) {
+    internalXMLSerializer.setParent(parent);
+    return super.setParent(parent);
+  }
+
+  @Override
+  public XMLSerializer<T> setPropertyName(XMLName name) {
+    internalXMLSerializer.setPropertyName(name);
+    return super.setPropertyName(name);
   }
 }
@@ -21,6 +21,8 @@ import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
+import org.treblereel.gwt.xml.mapper.api.ser.XMLSerializerCache;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLName;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -32,7 +34,7 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
  */
 public class ArrayXMLSerializer<T> extends BasicArrayXMLSerializer<T[]> {
 
-  private final Function<Class, XMLSerializer<T>> serializer;
+  private final XMLSerializerCache<T> serializers;
 
   /**
    * Constructor for ArrayXMLSerializer.
@@ -46,8 +48,11 @@ public class ArrayXMLSerializer<T> extends BasicArrayXMLSerializer<T[]> {
     if (null == propertyName) {
       throw new IllegalArgumentException("propertyName cannot be null");
     }
-    this.serializer = serializer;
+    this.serializers =
+        new XMLSerializerCache<>(
+            type -> serializer.apply(type).setPropertyName(xmlName).setParent(this));
     this.propertyName = propertyName;
+    this.xmlName = XMLName.of(propertyName);
   }
 
   /**
@@ -74,11 +79,7 @@ public class ArrayXMLSerializer<T> extends BasicArrayXMLSerializer<T[]> {
 
     beginObject(writer, isWrapCollections);
     for (T value : values) {
-      serializer
-          .apply(value.getClass())
-          .setParent(this)
-          .setPropertyName(propertyName)
-          .serialize(writer, value, ctx, params);
+      serializers.get(value.getClass()).serialize(writer, value, ctx, params);
     }
     endObject(writer, isWrapCollections);
   }
@@ -16,7 +16,9 @@
 package org.treblereel.gwt.xml.mapper.api.ser.array;
 
 import javax.xml.stream.XMLStreamException;
+import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLName;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /** @author Dmitrii Tikhomirov Created by treblereel 3/28/20 */
@@ -25,7 +27,13 @@ public abstract class BasicArrayXMLSerializer<T> extends XMLSerializer<T> {
   protected boolean isWrapCollections = false;
 
   public BasicArrayXMLSerializer<T> setPropertyName(String propertyName) {
-    this.propertyName = propertyName;
+    return setPropertyName(XMLName.of(propertyName));
+  }
+
+  @Override
+  public BasicArrayXMLSerializer<T> setPropertyName(XMLName name) {
+    this.propertyName = name != null ? name.getName() : null;
+    this.xmlName = name;
     return this;
   }
 
@@ -40,12 +48,12 @@ public abstract class BasicArrayXMLSerializer<T> extends XMLSerializer<T> {
       if (namespace != null) {
         String prefix = getPrefix(namespace);
         if (prefix != null) {
-          writer.beginObject(prefix, namespace, propertyName);
+          writer.beginObject(prefix, namespace, xmlName);
         } else {
-          writer.beginObject(namespace, propertyName);
+          writer.beginObject(namespace, xmlName);
         }
       } else {
-        writer.beginObject(propertyName);
+        writer.beginObject(xmlName);
       }
     }
   }
@@ -55,4 +63,30 @@ public abstract class BasicArrayXMLSerializer<T> extends XMLSerializer<T> {
       writer.endObject();
     }
   }
+
+  /**
+   * Writes what stands for a null row of a 2D array, or for an empty one when empty arrays are not
+   * written.
+   *
+   * @param writer the writer
+   * @param row the row
+   * @param length the length of the row, ignored if it is null
+   * @param ctx the serialization context
+   * @return true if the row has no cells to write
+   */
+  protected boolean writeRowPlaceholder(
+      XMLWriter writer, Object row, int length, XMLSerializationContext ctx)
+      throws XMLStreamException {
+    if (null == row) {
+      if (ctx.isSerializeNulls()) {
+        writer.nullValue();
+      }
+      return true;
+    }
+    if (length == 0 && !ctx.isWriteEmptyXMLArrays()) {
+      writer.nullValue();
+      return true;
+    }
+    return false;
+  }
 }
@@ -21,7 +21,6 @@ import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
-import org.treblereel.gwt.xml.mapper.api.utils.Base64Utils;
 
 /**
  * Default {@link XMLSerializer} implementation for array of byte.
@@ -57,6 +56,8 @@ public class PrimitiveByteArrayXMLSerializer extends BasicArrayXMLSerializer<byt
       writer.nullValue();
       return;
     }
-    writer.value(Base64Utils.toBase64(values));
+    writer.beginArray();
+    writer.writeBinary(values, 0, values.length);
+    writer.endArray();
   }
 }
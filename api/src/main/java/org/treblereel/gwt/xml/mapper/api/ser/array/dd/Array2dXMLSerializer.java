@@ -21,7 +21,9 @@ import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
+import org.treblereel.gwt.xml.mapper.api.ser.XMLSerializerCache;
 import org.treblereel.gwt.xml.mapper.api.ser.array.BasicArrayXMLSerializer;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLName;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -33,7 +35,7 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
  */
 public class Array2dXMLSerializer<T> extends BasicArrayXMLSerializer<T[][]> {
 
-  private final Function<Class, XMLSerializer<T>> serializer;
+  private final XMLSerializerCache<T> serializers;
 
   /**
    * Constructor for Array2dXMLSerializer.
@@ -48,8 +50,11 @@ public class Array2dXMLSerializer<T> extends BasicArrayXMLSerializer<T[][]> {
     if (null == propertyName) {
       throw new IllegalArgumentException("propertyName cannot be null");
     }
-    this.serializer = serializer;
+    this.serializers =
+        new XMLSerializerCache<>(
+            type -> serializer.apply(type).setPropertyName(xmlName).setParent(this));
     this.propertyName = propertyName;
+    this.xmlName = XMLName.of(propertyName);
   }
 
   /**
@@ -77,11 +82,7 @@ public class Array2dXMLSerializer<T> extends BasicArrayXMLSerializer<T[][]> {
     for (T[] array : values) {
       beginObject(writer, true);
       for (T value : array) {
-        serializer
-            .apply(value.getClass())
-            .setPropertyName(propertyName)
-            .setParent(this)
-            .serialize(writer, value, ctx, params);
+        serializers.get(value.getClass()).serialize(writer, value, ctx, params);
       }
       endObject(writer, true);
     }
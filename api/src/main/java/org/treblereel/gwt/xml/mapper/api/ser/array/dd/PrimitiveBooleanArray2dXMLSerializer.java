@@ -21,7 +21,6 @@ import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
 import org.treblereel.gwt.xml.mapper.api.ser.array.BasicArrayXMLSerializer;
-import org.treblereel.gwt.xml.mapper.api.ser.array.PrimitiveBooleanArrayXMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -56,12 +55,15 @@ public class PrimitiveBooleanArray2dXMLSerializer extends BasicArrayXMLSerialize
       return;
     }
 
-    BasicArrayXMLSerializer serializer =
-        PrimitiveBooleanArrayXMLSerializer.getInstance(propertyName);
-
-    for (boolean[] value : values) {
+    for (boolean[] row : values) {
       beginObject(writer, true);
-      serializer.serialize(writer, value, ctx, params);
+      if (!writeRowPlaceholder(writer, row, null == row ? 0 : row.length, ctx)) {
+        for (boolean value : row) {
+          writer.beginObject(xmlName);
+          writer.writeBoolean(value);
+          writer.endObject();
+        }
+      }
       endObject(writer, true);
     }
   }
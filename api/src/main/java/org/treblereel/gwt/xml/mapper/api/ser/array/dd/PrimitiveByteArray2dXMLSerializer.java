@@ -64,10 +64,10 @@ public class PrimitiveByteArray2dXMLSerializer extends BasicArrayXMLSerializer<b
 
     if (values.length == 0) {
       if (ctx.isWriteEmptyXMLArrays()) {
-        writer.beginObject(propertyName);
+        writer.beginObject(xmlName);
         writer.endObject();
       } else {
-        writer.unescapeName(propertyName);
+        writer.unescapeName(xmlName);
         writer.nullValue();
       }
       return;
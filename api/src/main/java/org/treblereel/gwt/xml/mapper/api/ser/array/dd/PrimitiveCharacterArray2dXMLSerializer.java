@@ -21,7 +21,6 @@ import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
 import org.treblereel.gwt.xml.mapper.api.ser.array.BasicArrayXMLSerializer;
-import org.treblereel.gwt.xml.mapper.api.ser.array.PrimitiveCharacterArrayXMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -62,12 +61,13 @@ public class PrimitiveCharacterArray2dXMLSerializer extends BasicArrayXMLSeriali
       return;
     }
 
-    BasicArrayXMLSerializer serializer =
-        PrimitiveCharacterArrayXMLSerializer.getInstance(propertyName);
-
     beginObject(writer, true);
-    for (char[] value : values) {
-      serializer.serialize(writer, value, ctx, params);
+    for (char[] row : values) {
+      if (!writeRowPlaceholder(writer, row, null == row ? 0 : row.length, ctx)) {
+        for (char value : row) {
+          writer.value(value == '\u0000' ? "" : String.valueOf(value));
+        }
+      }
     }
     endObject(writer, true);
   }
@@ -21,7 +21,6 @@ import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
 import org.treblereel.gwt.xml.mapper.api.ser.array.BasicArrayXMLSerializer;
-import org.treblereel.gwt.xml.mapper.api.ser.array.PrimitiveDoubleArrayXMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -62,12 +61,15 @@ public class PrimitiveDoubleArray2dXMLSerializer extends BasicArrayXMLSerializer
       return;
     }
 
-    BasicArrayXMLSerializer serializer =
-        PrimitiveDoubleArrayXMLSerializer.getInstance(propertyName);
-
     beginObject(writer, true);
-    for (double[] value : values) {
-      serializer.serialize(writer, value, ctx, params);
+    for (double[] row : values) {
+      if (!writeRowPlaceholder(writer, row, null == row ? 0 : row.length, ctx)) {
+        for (double value : row) {
+          writer.beginObject(xmlName);
+          writer.writeDouble(value);
+          writer.endObject();
+        }
+      }
     }
     endObject(writer, true);
   }
@@ -21,7 +21,6 @@ import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
 import org.treblereel.gwt.xml.mapper.api.ser.array.BasicArrayXMLSerializer;
-import org.treblereel.gwt.xml.mapper.api.ser.array.PrimitiveFloatArrayXMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -62,12 +61,16 @@ public class PrimitiveFloatArray2dXMLSerializer extends BasicArrayXMLSerializer<
       return;
     }
 
-    BasicArrayXMLSerializer serializer = PrimitiveFloatArrayXMLSerializer.getInstance(propertyName);
-
-    // beginObject(writer, true);
-    for (float[] value : values) {
-      serializer.serialize(writer, value, ctx, params);
+    for (float[] row : values) {
+      if (!writeRowPlaceholder(writer, row, null == row ? 0 : row.length, ctx)) {
+        writer.beginObject(xmlName);
+        for (float value : row) {
+          writer.beginObject(xmlName);
+          writer.writeFloat(value);
+          writer.endObject();
+        }
+        writer.endObject();
+      }
     }
-    // endObject(writer, true);
   }
 }
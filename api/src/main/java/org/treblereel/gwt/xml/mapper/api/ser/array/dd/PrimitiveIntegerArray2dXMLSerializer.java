@@ -21,7 +21,6 @@ import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
 import org.treblereel.gwt.xml.mapper.api.ser.array.BasicArrayXMLSerializer;
-import org.treblereel.gwt.xml.mapper.api.ser.array.PrimitiveIntegerArrayXMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -59,12 +58,15 @@ public class PrimitiveIntegerArray2dXMLSerializer extends BasicArrayXMLSerialize
       return;
     }
 
-    BasicArrayXMLSerializer serializer =
-        PrimitiveIntegerArrayXMLSerializer.getInstance(propertyName);
-
     beginObject(writer, true);
-    for (int[] value : values) {
-      serializer.serialize(writer, value, ctx, params);
+    for (int[] row : values) {
+      if (!writeRowPlaceholder(writer, row, null == row ? 0 : row.length, ctx)) {
+        for (int value : row) {
+          writer.beginObject(xmlName);
+          writer.writeInt(value);
+          writer.endObject();
+        }
+      }
     }
     endObject(writer, true);
   }
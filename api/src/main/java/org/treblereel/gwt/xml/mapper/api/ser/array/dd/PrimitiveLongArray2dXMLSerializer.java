@@ -21,7 +21,6 @@ import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
 import org.treblereel.gwt.xml.mapper.api.ser.array.BasicArrayXMLSerializer;
-import org.treblereel.gwt.xml.mapper.api.ser.array.PrimitiveLongArrayXMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -62,11 +61,15 @@ public class PrimitiveLongArray2dXMLSerializer extends BasicArrayXMLSerializer<l
       return;
     }
 
-    BasicArrayXMLSerializer serializer = PrimitiveLongArrayXMLSerializer.getInstance(propertyName);
-
     beginObject(writer, true);
-    for (long[] value : values) {
-      serializer.serialize(writer, value, ctx, params);
+    for (long[] row : values) {
+      if (!writeRowPlaceholder(writer, row, null == row ? 0 : row.length, ctx)) {
+        for (long value : row) {
+          writer.beginObject(xmlName);
+          writer.writeLong(value);
+          writer.endObject();
+        }
+      }
     }
     endObject(writer, true);
   }
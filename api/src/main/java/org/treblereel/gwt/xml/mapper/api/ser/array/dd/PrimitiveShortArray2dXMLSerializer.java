@@ -21,7 +21,6 @@ import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
 import org.treblereel.gwt.xml.mapper.api.ser.array.BasicArrayXMLSerializer;
-import org.treblereel.gwt.xml.mapper.api.ser.array.PrimitiveShortArrayXMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -62,11 +61,15 @@ public class PrimitiveShortArray2dXMLSerializer extends BasicArrayXMLSerializer<
       return;
     }
 
-    BasicArrayXMLSerializer serializer = PrimitiveShortArrayXMLSerializer.getInstance(propertyName);
-
     beginObject(writer, true);
-    for (short[] value : values) {
-      serializer.serialize(writer, value, ctx, params);
+    for (short[] row : values) {
+      if (!writeRowPlaceholder(writer, row, null == row ? 0 : row.length, ctx)) {
+        for (short value : row) {
+          writer.beginObject(xmlName);
+          writer.writeInt(value);
+          writer.endObject();
+        }
+      }
     }
     endObject(writer, true);
   }
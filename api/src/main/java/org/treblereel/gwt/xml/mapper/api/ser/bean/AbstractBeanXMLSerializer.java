@@ -45,6 +45,12 @@ public abstract class AbstractBeanXMLSerializer<T> extends XMLSerializer<T>
   protected AbstractBeanXMLSerializer() {
     this.serializers = initSerializers();
     this.defaultTypeInfo = initTypeInfo();
+    for (BeanPropertySerializer<T, ?> propertySerializer : serializers) {
+      propertySerializer.setParent(this);
+      if (propertySerializer.propertyName.equals(getXmlValuePropertyName())) {
+        propertySerializer.setPropertyType(PropertyType.XML_VALUE);
+      }
+    }
   }
 
   /**
@@ -187,7 +193,7 @@ public abstract class AbstractBeanXMLSerializer<T> extends XMLSerializer<T>
       throws XMLStreamException {
     for (BeanPropertySerializer<T, ?> propertySerializer : serializers) {
       if (propertySerializer.isAttribute()) {
-        propertySerializer.setParent(this).serialize(writer, value, ctx);
+        propertySerializer.serialize(writer, value, ctx);
       }
     }
   }
@@ -200,14 +206,7 @@ public abstract class AbstractBeanXMLSerializer<T> extends XMLSerializer<T>
         if (propertySerializer.getValue(value, ctx) == null && !ctx.isSerializeNulls()) {
           continue;
         }
-        if (propertySerializer.propertyName.equals(getXmlValuePropertyName())) {
-          propertySerializer
-              .setParent(this)
-              .setPropertyType(PropertyType.XML_VALUE)
-              .serialize(writer, value, ctx);
-        } else {
-          propertySerializer.setParent(this).serialize(writer, value, ctx);
-        }
+        propertySerializer.serialize(writer, value, ctx);
       }
     }
   }
@@ -22,6 +22,9 @@ import org.treblereel.gwt.xml.mapper.api.PropertyType;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
+import org.treblereel.gwt.xml.mapper.api.ser.BaseNumberXMLSerializer;
+import org.treblereel.gwt.xml.mapper.api.ser.BooleanXMLSerializer;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLName;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -33,6 +36,7 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, XMLSerializer<V>> {
 
   protected String propertyName;
+  protected XMLName xmlName;
   private XMLSerializerParameters parameters = newParameters();
   private XMLSerializer parent;
   private PropertyType type = PropertyType.COMMON;
@@ -43,11 +47,26 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, XMLS
    * @param propertyName a {@link String} object.
    */
   protected BeanPropertySerializer(String propertyName) {
-    this.propertyName = propertyName;
+    this(XMLName.of(propertyName));
   }
 
   protected BeanPropertySerializer(String propertyName, PropertyType type) {
-    this.propertyName = propertyName;
+    this(XMLName.of(propertyName), type);
+  }
+
+  /**
+   * Constructor for BeanPropertySerializer, the generated serializers pass a name shared by all
+   * their instances.
+   *
+   * @param name a {@link XMLName} object.
+   */
+  protected BeanPropertySerializer(XMLName name) {
+    this.propertyName = name.getName();
+    this.xmlName = name;
+  }
+
+  protected BeanPropertySerializer(XMLName name, PropertyType type) {
+    this(name);
     this.type = type;
   }
 
@@ -78,15 +97,73 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, XMLS
    */
   public void serialize(XMLWriter writer, T bean, XMLSerializationContext ctx)
       throws XMLStreamException {
-    writer.unescapeName(propertyName);
-    getSerializer(getValue(bean, ctx) != null ? getValue(bean, ctx).getClass() : null)
-        .setPropertyName(propertyName)
+    writer.unescapeName(xmlName);
+    V value = getValue(bean, ctx);
+    getSerializer(value != null ? value.getClass() : null)
+        .serialize(writer, value, ctx, getParameters());
+  }
+
+  /**
+   * Serializes a primitive property without boxing its value. The serializers generated for
+   * primitive properties call it from {@link #serialize(XMLWriter, Object,
+   * XMLSerializationContext)}, their serializer is a {@link BaseNumberXMLSerializer}.
+   *
+   * @param writer writer
+   * @param value the value of the property, a byte, short or int
+   * @param ctx context of the serialization process
+   */
+  protected void serialize(XMLWriter writer, int value, XMLSerializationContext ctx)
+      throws XMLStreamException {
+    writer.unescapeName(xmlName);
+    ((BaseNumberXMLSerializer) getSerializer(Integer.class))
+        .serialize(writer, value, ctx, getParameters());
+  }
+
+  /** See {@link #serialize(XMLWriter, int, XMLSerializationContext)}. */
+  protected void serialize(XMLWriter writer, long value, XMLSerializationContext ctx)
+      throws XMLStreamException {
+    writer.unescapeName(xmlName);
+    ((BaseNumberXMLSerializer) getSerializer(Long.class))
+        .serialize(writer, value, ctx, getParameters());
+  }
+
+  /** See {@link #serialize(XMLWriter, int, XMLSerializationContext)}. */
+  protected void serialize(XMLWriter writer, float value, XMLSerializationContext ctx)
+      throws XMLStreamException {
+    writer.unescapeName(xmlName);
+    ((BaseNumberXMLSerializer) getSerializer(Float.class))
+        .serialize(writer, value, ctx, getParameters());
+  }
+
+  /** See {@link #serialize(XMLWriter, int, XMLSerializationContext)}. */
+  protected void serialize(XMLWriter writer, double value, XMLSerializationContext ctx)
+      throws XMLStreamException {
+    writer.unescapeName(xmlName);
+    ((BaseNumberXMLSerializer) getSerializer(Double.class))
+        .serialize(writer, value, ctx, getParameters());
+  }
+
+  /**
+   * See {@link #serialize(XMLWriter, int, XMLSerializationContext)}, the serializer is a {@link
+   * BooleanXMLSerializer}.
+   */
+  protected void serialize(XMLWriter writer, boolean value, XMLSerializationContext ctx)
+      throws XMLStreamException {
+    writer.unescapeName(xmlName);
+    ((BooleanXMLSerializer) getSerializer(Boolean.class))
+        .serialize(writer, value, ctx, getParameters());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected XMLSerializer<?> initSerializer(Class value) {
+    return newSerializer(value)
+        .setPropertyName(xmlName)
         .setPropertyType(type)
         .setNamespace(getNamespace())
         .setPrefix(getPrefix())
         .setParent(parent)
-        .isAttribute(isAttribute())
-        .serialize(writer, getValue(bean, ctx), ctx, getParameters());
+        .isAttribute(isAttribute());
   }
 
   /**
@@ -119,6 +196,10 @@ public abstract class BeanPropertySerializer<T, V> extends HasSerializer<V, XMLS
     return parameters;
   }
 
+  /**
+   * Sets the bean serializer owning this property. Called once by {@link AbstractBeanXMLSerializer}
+   * when it is constructed, before the property is serialized.
+   */
   BeanPropertySerializer<T, V> setParent(XMLSerializer parent) {
     this.parent = parent;
     return this;
@@ -17,6 +17,7 @@
 package org.treblereel.gwt.xml.mapper.api.ser.bean;
 
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
+import org.treblereel.gwt.xml.mapper.api.ser.XMLSerializerCache;
 
 /**
  * Lazy initialize a {@link XMLSerializer}
@@ -26,18 +27,30 @@ import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
  */
 public abstract class HasSerializer<V, S extends XMLSerializer<V>> {
 
-  private S serializer;
+  private final XMLSerializerCache<V> serializers = new XMLSerializerCache<>(this::create);
 
   /**
-   * Getter for the field <code>serializer</code>.
+   * Getter for the field <code>serializer</code>. The serializer is kept for each class of the
+   * values, a value of a class not seen before gets a new one.
    *
    * @return a S object.
    */
   protected S getSerializer(Class value) {
-    if (null == serializer) {
-      serializer = (S) newSerializer(value);
-    }
-    return serializer;
+    return (S) serializers.get(value);
+  }
+
+  private XMLSerializer<V> create(Class value) {
+    return (XMLSerializer<V>) initSerializer(value);
+  }
+
+  /**
+   * Creates the serializer for the given class. Subclasses configure the serializer here, it is
+   * shared once this method returns and must not be changed afterwards.
+   *
+   * @return a {@link XMLSerializer} object.
+   */
+  protected XMLSerializer<?> initSerializer(Class value) {
+    return newSerializer(value);
   }
 
   /**
@@ -24,6 +24,8 @@ import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
+import org.treblereel.gwt.xml.mapper.api.ser.XMLSerializerCache;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLName;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -37,8 +39,12 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
  */
 public class MapXMLSerializer<M extends Map<K, V>, K, V> extends XMLSerializer<M> {
 
-  private final Function<Class, XMLSerializer<K>> keySerializer;
-  private final Function<Class, XMLSerializer<V>> valueSerializer;
+  private static final XMLName ENTRY = XMLName.of("entry");
+  private static final XMLName KEY = XMLName.of("key");
+  private static final XMLName VALUE = XMLName.of("value");
+
+  private final XMLSerializerCache<K> keySerializers;
+  private final XMLSerializerCache<V> valueSerializers;
   protected final String propertyName;
 
   /**
@@ -60,8 +66,12 @@ public class MapXMLSerializer<M extends Map<K, V>, K, V> extends XMLSerializer<M
     if (null == propertyName) {
       throw new IllegalArgumentException("valueSerializer cannot be null");
     }
-    this.keySerializer = keySerializer;
-    this.valueSerializer = valueSerializer;
+    this.keySerializers =
+        new XMLSerializerCache<>(
+            type -> keySerializer.apply(type).setPropertyName(KEY).setParent(this));
+    this.valueSerializers =
+        new XMLSerializerCache<>(
+            type -> valueSerializer.apply(type).setPropertyName(VALUE).setParent(this));
     this.propertyName = propertyName;
   }
 
@@ -112,21 +122,15 @@ public class MapXMLSerializer<M extends Map<K, V>, K, V> extends XMLSerializer<M
       }
       writer.beginObject(propertyName);
       for (Map.Entry<K, V> entry : map.entrySet()) {
-        writer.beginObject("entry");
-        String keyName = "key";
-        String valueName = "value";
-        writer.unescapeName(keyName);
-        keySerializer
-            .apply(entry.getKey().getClass())
-            .setPropertyName(keyName)
-            .setParent(this)
+        writer.beginObject(ENTRY);
+        writer.unescapeName(KEY);
+        keySerializers
+            .get(entry.getKey().getClass())
             .serialize(writer, entry.getKey(), ctx, params, true);
 
-        writer.unescapeName(valueName);
-        valueSerializer
-            .apply(entry.getValue().getClass())
-            .setPropertyName(valueName)
-            .setParent(this)
+        writer.unescapeName(VALUE);
+        valueSerializers
+            .get(entry.getValue().getClass())
             .serialize(writer, entry.getValue(), ctx, params, true);
 
         writer.endObject();
@@ -15,6 +15,11 @@
  */
 package org.treblereel.gwt.xml.mapper.api;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.xml.stream.XMLStreamException;
@@ -28,6 +33,8 @@ import org.treblereel.gwt.xml.mapper.api.stream.impl.JsNativeXMLReader;
 public class DefaultXMLDeserializationContext implements XMLDeserializationContext {
 
   private static final Logger logger = Logger.getLogger("XMLDeserialization");
+
+  private static final XMLIterator iterator = new DefaultXMLIterator();
   /*
    * Deserialization options
    */
@@ -37,7 +44,6 @@ public class DefaultXMLDeserializationContext implements XMLDeserializationConte
   private final boolean useSafeEval;
   private final boolean readUnknownEnumValuesAsNull;
   private final boolean useBrowserTimezone;
-  private final XMLIterator iterator;
   private final boolean readDateAsTimestamp;
 
   private DefaultXMLDeserializationContext(
@@ -55,7 +61,6 @@ public class DefaultXMLDeserializationContext implements XMLDeserializationConte
     this.readUnknownEnumValuesAsNull = readUnknownEnumValuesAsNull;
     this.useBrowserTimezone = useBrowserTimezone;
     this.readDateAsTimestamp = readDateAsTimestamp;
-    this.iterator = new DefaultXMLIterator();
   }
 
   /**
@@ -143,6 +148,37 @@ public class DefaultXMLDeserializationContext implements XMLDeserializationConte
     return reader;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The native parser only takes a String, so the input is decoded as UTF-8 and read whole.
+   */
+  @GwtIncompatible
+  @Override
+  public XMLReader newXMLReader(InputStream input) throws XMLStreamException {
+    return newXMLReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The native parser only takes a String, so the input is read whole.
+   */
+  @GwtIncompatible
+  @Override
+  public XMLReader newXMLReader(Reader input) throws XMLStreamException {
+    StringBuilder result = new StringBuilder();
+    char[] buffer = new char[8 * 1024];
+    try {
+      for (int read; (read = input.read(buffer)) != -1; ) {
+        result.append(buffer, 0, read);
+      }
+    } catch (IOException e) {
+      throw new XMLStreamException(e);
+    }
+    return newXMLReader(result.toString());
+  }
+
   @Override
   public XMLIterator iterator() {
     return iterator;
@@ -214,7 +250,7 @@ public class DefaultXMLDeserializationContext implements XMLDeserializationConte
   /** Trace the current reader state */
   private void traceReaderInfo(XMLReader reader) throws XMLStreamException {
     if (null != reader && getLogger().isLoggable(Level.INFO)) {
-      getLogger().log(Level.INFO, "Error in input <" + reader.getInput() + ">");
+      getLogger().log(Level.INFO, "Error at " + reader.getPath());
     }
   }
 
@@ -15,6 +15,11 @@
  */
 package org.treblereel.gwt.xml.mapper.api;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.Map;
 import java.util.SortedMap;
@@ -149,6 +154,43 @@ public class DefaultXMLSerializationContext implements XMLSerializationContext {
     return writer;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The native writer builds a DOM, so the document is encoded as UTF-8 and written whole.
+   */
+  @GwtIncompatible
+  @Override
+  public XMLWriter newXMLWriter(OutputStream output) throws XMLStreamException {
+    return newXMLWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The native writer builds a DOM, so the document is written whole on the first flush.
+   */
+  @GwtIncompatible
+  @Override
+  public XMLWriter newXMLWriter(Writer output) throws XMLStreamException {
+    return new JsNativeXMLWriter() {
+      private boolean written;
+
+      @Override
+      public void flush() throws XMLStreamException {
+        try {
+          if (!written) {
+            output.write(getOutput());
+            written = true;
+          }
+          output.flush();
+        } catch (IOException e) {
+          throw new XMLStreamException(e);
+        }
+      }
+    };
+  }
+
   /**
    * {@inheritDoc}
    *
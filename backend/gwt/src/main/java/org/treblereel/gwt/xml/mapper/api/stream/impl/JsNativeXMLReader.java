@@ -21,10 +21,9 @@ import elemental2.dom.Document;
 import elemental2.dom.Node;
 import elemental2.dom.Text;
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import jsinterop.annotations.JsPackage;
@@ -36,21 +35,20 @@ public class JsNativeXMLReader implements XMLReader {
 
   private Document doc;
 
-  private Iterator<NodeWrapper> iterator;
+  private final List<NodeWrapper> nodes = new ArrayList<>();
+  private int position;
   private NodeWrapper current;
 
   public JsNativeXMLReader(String input) {
     doc = new DOMParser().parseFromString(input, "text/xml");
     removeWhitespace(doc, null);
-    List<NodeWrapper> nodes = new LinkedList<>();
     visit(doc, nodes);
-    iterator = nodes.iterator();
-    current = iterator.next();
+    current = nodes.get(position);
   }
 
   @Override
   public boolean hasNext() {
-    return iterator.hasNext();
+    return position < nodes.size() - 1;
   }
 
   @Override
@@ -84,6 +82,14 @@ public class JsNativeXMLReader implements XMLReader {
     return ((Text) current.node).data;
   }
 
+  @Override
+  public boolean nextIsNull() {
+    if (current.type == XMLStreamConstants.START_ELEMENT) {
+      next();
+    }
+    return current.type == XMLStreamConstants.END_ELEMENT;
+  }
+
   @Override
   public boolean nextBoolean() {
     String value = nextString();
@@ -102,6 +108,15 @@ public class JsNativeXMLReader implements XMLReader {
     return Double.valueOf(value);
   }
 
+  @Override
+  public float nextFloat() {
+    String value = nextString();
+    if (value == null) {
+      return 0;
+    }
+    return Float.parseFloat(value);
+  }
+
   @Override
   public long nextLong() {
     String value = nextString();
@@ -126,6 +141,15 @@ public class JsNativeXMLReader implements XMLReader {
   @Override
   public void skipValue() {}
 
+  @Override
+  public void skipElement() {
+    if (current.type != XMLStreamConstants.START_ELEMENT) {
+      throw new IllegalStateException("Expected START_ELEMENT, but was " + current.type);
+    }
+    position = current.end;
+    current = nodes.get(position);
+  }
+
   @Override
   public String nextValue() {
     if (current.type == XMLStreamConstants.END_ELEMENT) {
@@ -141,14 +165,28 @@ public class JsNativeXMLReader implements XMLReader {
 
   @Override
   public void next() {
-    if (iterator.hasNext()) {
-      current = iterator.next();
+    if (hasNext()) {
+      current = nodes.get(++position);
     }
   }
 
   @Override
-  public String getInput() {
-    return doc.documentElement.toString();
+  public Location getLocation() {
+    return null;
+  }
+
+  @Override
+  public String getPath() {
+    String path = "";
+    for (Node node = current.node; node != null && node.nodeType == 1; node = node.parentNode) {
+      path = "/" + node.nodeName + path;
+    }
+    return path.isEmpty() ? "/" : path;
+  }
+
+  @Override
+  public String getExcerpt() {
+    return null;
   }
 
   @Override
@@ -173,13 +211,15 @@ public class JsNativeXMLReader implements XMLReader {
   }
 
   public void visit(Node node, List<NodeWrapper> nodes) {
-    nodes.add(new NodeWrapper(node, toNodeType(node.nodeType)));
+    NodeWrapper wrapper = new NodeWrapper(node, toNodeType(node.nodeType));
+    nodes.add(wrapper);
     if (node.hasChildNodes()) {
       for (int i = 0; i < node.childNodes.getLength(); i++) {
         visit(node.childNodes.item(i), nodes);
       }
     }
     if (node.nodeType == 1) {
+      wrapper.end = nodes.size();
       nodes.add(new NodeWrapper(node, XMLStreamConstants.END_ELEMENT));
     }
   }
@@ -235,6 +275,8 @@ public class JsNativeXMLReader implements XMLReader {
 
     int type;
     Node node;
+    // index of the matching END_ELEMENT, for START_ELEMENT nodes
+    int end;
 
     NodeWrapper(Node node, int type) {
       this.node = node;
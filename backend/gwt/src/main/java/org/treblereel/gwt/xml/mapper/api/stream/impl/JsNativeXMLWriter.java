@@ -26,6 +26,7 @@ import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsType;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
+import org.treblereel.gwt.xml.mapper.api.utils.Base64Utils;
 
 /** @author Dmitrii Tikhomirov Created by treblereel 4/18/20 */
 public class JsNativeXMLWriter implements XMLWriter {
@@ -176,14 +177,14 @@ public class JsNativeXMLWriter implements XMLWriter {
     String string = value.toString();
 
     if (string.equals("-Infinity") || string.equals("Infinity") || string.equals("NaN")) {
-      throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+      throw new IllegalArgumentException("Numeric values must be finite, but was " + string);
     }
-    value(value.toString());
+    value(string);
     return this;
   }
 
   @Override
-  public void flush() {}
+  public void flush() throws XMLStreamException {}
 
   @Override
   public void close() {}
@@ -221,6 +222,17 @@ public class JsNativeXMLWriter implements XMLWriter {
     stack.getFirst().textContent = value;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>{@link #writeCharacters(String)} replaces the text of the element, so the value is encoded
+   * in one piece rather than a chunk at a time.
+   */
+  @Override
+  public void writeBinary(byte[] value, int offset, int length) {
+    writeCharacters(Base64Utils.toBase64(value, offset, length));
+  }
+
   @Override
   public void writeAttribute(String propertyName, String value) {
     if (propertyName != null && value != null) {
@@ -16,6 +16,18 @@
 
 package org.treblereel.gwt.xml.mapper.api;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.exception.XMLDeserializationException;
 import org.treblereel.gwt.xml.mapper.api.exception.XMLSerializationException;
@@ -31,11 +43,22 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
  */
 public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
 
+  /** Built once, contexts are immutable and are shared by every mapper that is not bound. */
+  private static final XMLDeserializationContext defaultDeserializationContext =
+      DefaultXMLDeserializationContext.builder().build();
+
+  private static final XMLSerializationContext defaultSerializationContext =
+      DefaultXMLSerializationContext.builder().build();
+
   private final String rootName;
 
-  private XMLDeserializer<T> deserializer;
+  private final XMLDeserializationContext deserializationContext;
+
+  private final XMLSerializationContext serializationContext;
 
-  private XMLSerializer<T> serializer;
+  private volatile XMLDeserializer<T> deserializer;
+
+  private volatile XMLSerializer<T> serializer;
 
   /**
    * Constructor for AbstractObjectMapper.
@@ -43,20 +66,153 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
    * @param rootName a {@link java.lang.String} object.
    */
   protected AbstractObjectMapper(String rootName) {
+    this(rootName, defaultDeserializationContext, defaultSerializationContext);
+  }
+
+  private AbstractObjectMapper(
+      String rootName,
+      XMLDeserializationContext deserializationContext,
+      XMLSerializationContext serializationContext) {
     this.rootName = rootName;
+    this.deserializationContext = deserializationContext;
+    this.serializationContext = serializationContext;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ObjectMapper<T> with(XMLDeserializationContext ctx) {
+    return new BoundObjectMapper<>(this, ctx, serializationContext);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ObjectMapper<T> with(XMLSerializationContext ctx) {
+    return new BoundObjectMapper<>(this, deserializationContext, ctx);
   }
 
   /** {@inheritDoc} */
   @Override
   public T read(String in) throws XMLDeserializationException, XMLStreamException {
-    return read(in, DefaultXMLDeserializationContext.builder().build());
+    return read(in, deserializationContext);
   }
 
   /** {@inheritDoc} */
   public T read(String in, XMLDeserializationContext ctx)
       throws XMLDeserializationException, XMLStreamException {
+    return read(ctx.newXMLReader(in), ctx);
+  }
+
+  /** {@inheritDoc} */
+  @GwtIncompatible
+  @Override
+  public T read(InputStream in) throws XMLDeserializationException, XMLStreamException {
+    return read(in, deserializationContext);
+  }
+
+  /** {@inheritDoc} */
+  @GwtIncompatible
+  @Override
+  public T read(InputStream in, XMLDeserializationContext ctx)
+      throws XMLDeserializationException, XMLStreamException {
+    return read(ctx.newXMLReader(in), ctx);
+  }
+
+  /** {@inheritDoc} */
+  @GwtIncompatible
+  @Override
+  public T read(Reader in) throws XMLDeserializationException, XMLStreamException {
+    return read(in, deserializationContext);
+  }
+
+  /** {@inheritDoc} */
+  @GwtIncompatible
+  @Override
+  public T read(Reader in, XMLDeserializationContext ctx)
+      throws XMLDeserializationException, XMLStreamException {
+    return read(ctx.newXMLReader(in), ctx);
+  }
+
+  /** {@inheritDoc} */
+  @GwtIncompatible
+  @Override
+  public T read(byte[] in, int offset, int length)
+      throws XMLDeserializationException, XMLStreamException {
+    return read(in, offset, length, deserializationContext);
+  }
+
+  /** {@inheritDoc} */
+  @GwtIncompatible
+  @Override
+  public T read(byte[] in, int offset, int length, XMLDeserializationContext ctx)
+      throws XMLDeserializationException, XMLStreamException {
+    return read(new ByteArrayInputStream(in, offset, length), ctx);
+  }
+
+  /** {@inheritDoc} */
+  @GwtIncompatible
+  @Override
+  public T read(Path path) throws XMLDeserializationException, XMLStreamException, IOException {
+    return read(path, deserializationContext);
+  }
+
+  /** {@inheritDoc} */
+  @GwtIncompatible
+  @Override
+  public T read(Path path, XMLDeserializationContext ctx)
+      throws XMLDeserializationException, XMLStreamException, IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return read(channel, ctx);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @GwtIncompatible
+  @Override
+  public T read(FileChannel channel)
+      throws XMLDeserializationException, XMLStreamException, IOException {
+    return read(channel, deserializationContext);
+  }
+
+  /** {@inheritDoc} */
+  @GwtIncompatible
+  @Override
+  public T read(FileChannel channel, XMLDeserializationContext ctx)
+      throws XMLDeserializationException, XMLStreamException, IOException {
+    return read(ctx.newXMLReader(channel), ctx);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public MappingIterator<T> readValues(String in, QName container) throws XMLStreamException {
+    return readValues(in, container, deserializationContext);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public MappingIterator<T> readValues(String in, QName container, XMLDeserializationContext ctx)
+      throws XMLStreamException {
+    XMLReader reader = ctx.newXMLReader(in);
+    return new MappingIterator<>(reader, getDeserializer(reader), ctx, container);
+  }
+
+  /** {@inheritDoc} */
+  @GwtIncompatible
+  @Override
+  public MappingIterator<T> readValues(InputStream in, QName container) throws XMLStreamException {
+    return readValues(in, container, deserializationContext);
+  }
+
+  /** {@inheritDoc} */
+  @GwtIncompatible
+  @Override
+  public MappingIterator<T> readValues(
+      InputStream in, QName container, XMLDeserializationContext ctx) throws XMLStreamException {
     XMLReader reader = ctx.newXMLReader(in);
+    return new MappingIterator<>(reader, getDeserializer(reader), ctx, container);
+  }
 
+  private T read(XMLReader reader, XMLDeserializationContext ctx)
+      throws XMLDeserializationException, XMLStreamException {
     try {
       return getDeserializer(reader).deserialize(reader, ctx);
     } catch (XMLDeserializationException e) {
@@ -74,10 +230,12 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
    */
   @Override
   public XMLDeserializer<T> getDeserializer(XMLReader reader) {
-    if (null == deserializer) {
-      deserializer = newDeserializer(reader);
+    XMLDeserializer<T> result = deserializer;
+    if (null == result) {
+      result = newDeserializer(reader);
+      deserializer = result;
     }
-    return deserializer;
+    return result;
   }
 
   /**
@@ -90,7 +248,7 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
   /** {@inheritDoc} */
   @Override
   public String write(T value) throws XMLSerializationException, XMLStreamException {
-    return write(value, DefaultXMLSerializationContext.builder().build());
+    return write(value, serializationContext);
   }
 
   /** {@inheritDoc} */
@@ -98,8 +256,69 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
       throws XMLSerializationException, XMLStreamException {
     XMLWriter writer = ctx.newXMLWriter();
     try {
-      getSerializer().serialize(writer, value, ctx);
+      write(value, writer, ctx);
       return writer.getOutput();
+    } finally {
+      writer.close();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void write(T value, OutputStream out)
+      throws XMLSerializationException, XMLStreamException {
+    write(value, out, serializationContext);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void write(T value, OutputStream out, XMLSerializationContext ctx)
+      throws XMLSerializationException, XMLStreamException {
+    XMLWriter writer = ctx.newXMLWriter(out);
+    try {
+      write(value, writer, ctx);
+      writer.flush();
+    } finally {
+      writer.close();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void write(T value, Writer out) throws XMLSerializationException, XMLStreamException {
+    write(value, out, serializationContext);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void write(T value, Writer out, XMLSerializationContext ctx)
+      throws XMLSerializationException, XMLStreamException {
+    XMLWriter writer = ctx.newXMLWriter(out);
+    try {
+      write(value, writer, ctx);
+      writer.flush();
+    } finally {
+      writer.close();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void write(T value, WritableByteChannel channel)
+      throws XMLSerializationException, XMLStreamException {
+    write(value, channel, serializationContext);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void write(T value, WritableByteChannel channel, XMLSerializationContext ctx)
+      throws XMLSerializationException, XMLStreamException {
+    write(value, Channels.newOutputStream(channel), ctx);
+  }
+
+  private void write(T value, XMLWriter writer, XMLSerializationContext ctx) {
+    try {
+      getSerializer().serialize(writer, value, ctx);
     } catch (XMLSerializationException e) {
       // already logged, we just throw it
       throw new Error(e);
@@ -107,8 +326,6 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
       throw ctx.traceError(value, e, writer);
     } catch (Exception e) {
       throw new Error(e);
-    } finally {
-      writer.close();
     }
   }
 
@@ -119,10 +336,12 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
    */
   @Override
   public XMLSerializer<T> getSerializer() {
-    if (null == serializer) {
-      serializer = (XMLSerializer<T>) newSerializer();
+    XMLSerializer<T> result = serializer;
+    if (null == result) {
+      result = (XMLSerializer<T>) newSerializer();
+      serializer = result;
     }
-    return serializer;
+    return result;
   }
 
   /**
@@ -131,4 +350,42 @@ public abstract class AbstractObjectMapper<T> implements ObjectMapper<T> {
    * @return a new serializer
    */
   protected abstract XMLSerializer<?> newSerializer();
+
+  /**
+   * A mapper bound to prebuilt contexts. It shares the serializer and deserializer of the mapper it
+   * was created from, so binding a context costs a single allocation.
+   */
+  private static final class BoundObjectMapper<T> extends AbstractObjectMapper<T> {
+
+    private final AbstractObjectMapper<T> mapper;
+
+    private BoundObjectMapper(
+        AbstractObjectMapper<T> mapper,
+        XMLDeserializationContext deserializationContext,
+        XMLSerializationContext serializationContext) {
+      super(mapper.rootName, deserializationContext, serializationContext);
+      this.mapper =
+          mapper instanceof BoundObjectMapper ? ((BoundObjectMapper<T>) mapper).mapper : mapper;
+    }
+
+    @Override
+    public XMLDeserializer<T> getDeserializer(XMLReader reader) {
+      return mapper.getDeserializer(reader);
+    }
+
+    @Override
+    protected XMLDeserializer<T> newDeserializer(XMLReader reader) {
+      return mapper.newDeserializer(reader);
+    }
+
+    @Override
+    public XMLSerializer<T> getSerializer() {
+      return mapper.getSerializer();
+    }
+
+    @Override
+    protected XMLSerializer<?> newSerializer() {
+      return mapper.newSerializer();
+    }
+  }
 }
@@ -17,8 +17,14 @@
 package org.treblereel.gwt.xml.mapper.api;
 
 import com.ctc.wstx.stax.WstxInputFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import javax.xml.stream.Location;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import org.codehaus.stax2.XMLInputFactory2;
@@ -27,6 +33,8 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLIterator;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 import org.treblereel.gwt.xml.mapper.api.stream.impl.DefaultXMLIterator;
 import org.treblereel.gwt.xml.mapper.api.stream.impl.DefaultXMLReader;
+import org.treblereel.gwt.xml.mapper.api.stream.impl.InputExcerpt;
+import org.treblereel.gwt.xml.mapper.api.stream.impl.MappedFileInputStream;
 
 /**
  * Context for the deserialization process.
@@ -37,6 +45,15 @@ import org.treblereel.gwt.xml.mapper.api.stream.impl.DefaultXMLReader;
 public class DefaultXMLDeserializationContext implements XMLDeserializationContext {
 
   private static final Logger logger = Logger.getLogger("XMLDeserialization");
+
+  /**
+   * Every context reads with the same configured factory. A StAX factory is safe to share between
+   * threads once its properties are set, and building one is much more expensive than the readers
+   * it creates.
+   */
+  private static final XMLInputFactory xmlInputFactory = newXMLInputFactory();
+
+  private static final XMLIterator iterator = new DefaultXMLIterator();
   /*
    * Deserialization options
    */
@@ -46,9 +63,8 @@ public class DefaultXMLDeserializationContext implements XMLDeserializationConte
   private final boolean useSafeEval;
   private final boolean readUnknownEnumValuesAsNull;
   private final boolean useBrowserTimezone;
-  private final XMLInputFactory xmlInputFactory;
-  private final XMLIterator iterator;
   private final boolean readDateAsTimestamps;
+  private final int excerptLength;
 
   private DefaultXMLDeserializationContext(
       boolean failOnUnknownProperties,
@@ -57,18 +73,22 @@ public class DefaultXMLDeserializationContext implements XMLDeserializationConte
       boolean useSafeEval,
       boolean readUnknownEnumValuesAsNull,
       boolean useBrowserTimezone,
-      boolean readDateAsTimestamps) {
+      boolean readDateAsTimestamps,
+      int excerptLength) {
     this.failOnUnknownProperties = failOnUnknownProperties;
     this.acceptSingleValueAsArray = acceptSingleValueAsArray;
     this.wrapExceptions = wrapExceptions;
     this.useSafeEval = useSafeEval;
     this.readUnknownEnumValuesAsNull = readUnknownEnumValuesAsNull;
     this.useBrowserTimezone = useBrowserTimezone;
-    this.xmlInputFactory = new WstxInputFactory();
     this.readDateAsTimestamps = readDateAsTimestamps;
-    this.iterator = new DefaultXMLIterator();
+    this.excerptLength = excerptLength;
+  }
 
-    xmlInputFactory.setProperty(XMLInputFactory2.SUPPORT_DTD, false);
+  private static XMLInputFactory newXMLInputFactory() {
+    XMLInputFactory factory = new WstxInputFactory();
+    factory.setProperty(XMLInputFactory2.SUPPORT_DTD, false);
+    return factory;
   }
 
   /**
@@ -152,9 +172,48 @@ public class DefaultXMLDeserializationContext implements XMLDeserializationConte
    */
   @Override
   public XMLReader newXMLReader(String input) throws XMLStreamException {
+    if (excerptLength > 0) {
+      return newXMLReader(new StringReader(input));
+    }
+    return new DefaultXMLReader(xmlInputFactory, input);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>newXMLReader
+   */
+  @Override
+  public XMLReader newXMLReader(InputStream input) throws XMLStreamException {
+    if (excerptLength > 0) {
+      return new DefaultXMLReader(xmlInputFactory, InputExcerpt.of(input, excerptLength));
+    }
+    return new DefaultXMLReader(xmlInputFactory, input);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>newXMLReader
+   */
+  @Override
+  public XMLReader newXMLReader(Reader input) throws XMLStreamException {
+    if (excerptLength > 0) {
+      return new DefaultXMLReader(xmlInputFactory, InputExcerpt.of(input, excerptLength));
+    }
     return new DefaultXMLReader(xmlInputFactory, input);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The file is memory-mapped and parsed straight from the mapped buffers.
+   */
+  @Override
+  public XMLReader newXMLReader(FileChannel input) throws XMLStreamException, IOException {
+    return newXMLReader(new MappedFileInputStream(input));
+  }
+
   @Override
   public XMLIterator iterator() {
     return iterator;
@@ -226,7 +285,22 @@ public class DefaultXMLDeserializationContext implements XMLDeserializationConte
   /** Trace the current reader state */
   private void traceReaderInfo(XMLReader reader) throws XMLStreamException {
     if (null != reader && getLogger().isLoggable(Level.INFO)) {
-      getLogger().log(Level.INFO, "Error in input <" + reader.getInput() + ">");
+      StringBuilder info = new StringBuilder("Error at ").append(reader.getPath());
+      Location location = reader.getLocation();
+      if (location != null) {
+        info.append(" (line ")
+            .append(location.getLineNumber())
+            .append(", column ")
+            .append(location.getColumnNumber())
+            .append(", offset ")
+            .append(location.getCharacterOffset())
+            .append(')');
+      }
+      String excerpt = reader.getExcerpt();
+      if (excerpt != null) {
+        info.append(", input <").append(excerpt).append('>');
+      }
+      getLogger().log(Level.INFO, info.toString());
     }
   }
 
@@ -258,6 +332,8 @@ public class DefaultXMLDeserializationContext implements XMLDeserializationConte
 
     private boolean readDateAsTimestamp = true;
 
+    protected int excerptLength = 0;
+
     private Builder() {}
 
     /**
@@ -356,6 +432,21 @@ public class DefaultXMLDeserializationContext implements XMLDeserializationConte
       return this;
     }
 
+    /**
+     * Size of the input excerpt logged with an error. The last characters read by the parser are
+     * kept in a ring buffer of this size, the whole input is never retained.
+     *
+     * <p>Disabled (0) by default, errors are then reported with the element path, line, column and
+     * offset only.
+     *
+     * @param excerptLength number of characters, or bytes for a binary input
+     * @return the builder
+     */
+    public Builder excerptLength(int excerptLength) {
+      this.excerptLength = excerptLength;
+      return this;
+    }
+
     public final XMLDeserializationContext build() {
       return new DefaultXMLDeserializationContext(
           failOnUnknownProperties,
@@ -364,7 +455,8 @@ public class DefaultXMLDeserializationContext implements XMLDeserializationConte
           useSafeEval,
           readUnknownEnumValuesAsNull,
           useBrowserTimezone,
-          readDateAsTimestamp);
+          readDateAsTimestamp,
+          excerptLength);
     }
   }
 
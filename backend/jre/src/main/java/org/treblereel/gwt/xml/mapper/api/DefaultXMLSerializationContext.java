@@ -17,6 +17,8 @@
 package org.treblereel.gwt.xml.mapper.api;
 
 import com.ctc.wstx.stax.WstxOutputFactory;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.Date;
 import java.util.Map;
 import java.util.SortedMap;
@@ -27,6 +29,7 @@ import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.exception.XMLSerializationException;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 import org.treblereel.gwt.xml.mapper.api.stream.impl.DefaultXMLWriter;
+import org.treblereel.gwt.xml.mapper.api.stream.impl.Utf8XMLWriter;
 
 /**
  * Context for the serialization process.
@@ -37,6 +40,9 @@ import org.treblereel.gwt.xml.mapper.api.stream.impl.DefaultXMLWriter;
 public class DefaultXMLSerializationContext implements XMLSerializationContext {
 
   private static final Logger logger = Logger.getLogger("XMLSerialization");
+
+  /** Shared by every context, the factory is never reconfigured once created. */
+  private static final XMLOutputFactory xmlOutputFactory = new WstxOutputFactory();
   /*
    * Serialization options
    */
@@ -47,7 +53,8 @@ public class DefaultXMLSerializationContext implements XMLSerializationContext {
   private final boolean writeEmptyXMLArrays;
   private final boolean orderMapEntriesByKeys;
   private final boolean wrapExceptions;
-  private final XMLOutputFactory xmlOutputFactory;
+  private final String encoding;
+  private final boolean utf8Writer;
 
   private DefaultXMLSerializationContext(
       boolean serializeNulls,
@@ -56,7 +63,9 @@ public class DefaultXMLSerializationContext implements XMLSerializationContext {
       boolean writeNullMapValues,
       boolean writeEmptyXMLArrays,
       boolean orderMapEntriesByKeys,
-      boolean wrapExceptions) {
+      boolean wrapExceptions,
+      String encoding,
+      boolean utf8Writer) {
     this.serializeNulls = serializeNulls;
     this.writeDatesAsTimestamps = writeDatesAsTimestamps;
     this.writeDateKeysAsTimestamps = writeDateKeysAsTimestamps;
@@ -64,7 +73,8 @@ public class DefaultXMLSerializationContext implements XMLSerializationContext {
     this.writeEmptyXMLArrays = writeEmptyXMLArrays;
     this.orderMapEntriesByKeys = orderMapEntriesByKeys;
     this.wrapExceptions = wrapExceptions;
-    this.xmlOutputFactory = new WstxOutputFactory();
+    this.encoding = encoding;
+    this.utf8Writer = utf8Writer;
   }
 
   /**
@@ -155,10 +165,40 @@ public class DefaultXMLSerializationContext implements XMLSerializationContext {
    */
   @Override
   public XMLWriter newXMLWriter() throws XMLStreamException {
+    if (utf8Writer) {
+      return new Utf8XMLWriter();
+    }
     XMLWriter writer = new DefaultXMLWriter(xmlOutputFactory);
     return writer;
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>newXMLWriter
+   */
+  @Override
+  public XMLWriter newXMLWriter(OutputStream output) throws XMLStreamException {
+    if (utf8Writer && isUtf8(encoding)) {
+      return new Utf8XMLWriter(output);
+    }
+    return new DefaultXMLWriter(xmlOutputFactory, output, encoding);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>newXMLWriter
+   */
+  @Override
+  public XMLWriter newXMLWriter(Writer output) throws XMLStreamException {
+    return new DefaultXMLWriter(xmlOutputFactory, output);
+  }
+
+  private static boolean isUtf8(String encoding) {
+    return "UTF-8".equalsIgnoreCase(encoding) || "UTF8".equalsIgnoreCase(encoding);
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -267,6 +307,10 @@ public class DefaultXMLSerializationContext implements XMLSerializationContext {
 
     protected boolean wrapCollections = true;
 
+    protected String encoding = "UTF-8";
+
+    protected boolean utf8Writer = false;
+
     /**
      * Determines whether Object Identity is compared using true JVM-level identity of Object
      * (false); or, <code>equals()</code> method. Latter is sometimes useful when dealing with
@@ -387,6 +431,37 @@ public class DefaultXMLSerializationContext implements XMLSerializationContext {
       return this;
     }
 
+    /**
+     * Sets the encoding of the XML written to an {@link OutputStream} or a channel, it is declared
+     * in the XML declaration. The default is UTF-8.
+     *
+     * @param encoding the name of the encoding
+     * @return the builder
+     */
+    public Builder encoding(String encoding) {
+      if (null == encoding) {
+        throw new IllegalArgumentException("encoding cannot be null");
+      }
+      this.encoding = encoding;
+      return this;
+    }
+
+    /**
+     * Feature that determines whether XML is written by {@link Utf8XMLWriter}, which encodes UTF-8
+     * into its own buffer, instead of through StAX. The output is the same. A {@link
+     * java.io.Writer} or an {@link OutputStream} with another encoding is still written through
+     * StAX.
+     *
+     * <p>Feature is disabled by default.
+     *
+     * @param utf8Writer true if should use the UTF-8 writer
+     * @return the builder
+     */
+    public Builder utf8Writer(boolean utf8Writer) {
+      this.utf8Writer = utf8Writer;
+      return this;
+    }
+
     public final XMLSerializationContext build() {
       return new DefaultXMLSerializationContext(
           serializeNulls,
@@ -395,7 +470,9 @@ public class DefaultXMLSerializationContext implements XMLSerializationContext {
           writeNullMapValues,
           writeEmptyXMLArrays,
           orderMapEntriesByKeys,
-          wrapExceptions);
+          wrapExceptions,
+          encoding,
+          utf8Writer);
     }
   }
 
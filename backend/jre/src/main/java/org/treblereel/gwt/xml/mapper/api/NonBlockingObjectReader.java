@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.treblereel.gwt.xml.mapper.api;
+
+import com.fasterxml.aalto.AsyncByteBufferFeeder;
+import com.fasterxml.aalto.AsyncXMLInputFactory;
+import com.fasterxml.aalto.AsyncXMLStreamReader;
+import com.fasterxml.aalto.stax.InputFactoryImpl;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import org.treblereel.gwt.xml.mapper.api.exception.XMLDeserializationException;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
+import org.treblereel.gwt.xml.mapper.api.stream.impl.BufferedXMLReader;
+
+/**
+ * Non-blocking counterpart of {@link ObjectReader#readValues}. The document is fed in chunks as
+ * they arrive, every child element of the container is bound as soon as its end tag has been parsed
+ * and handed to the consumer. {@link #feed(ByteBuffer)} never waits for more input.
+ *
+ * <pre>{@code
+ * NonBlockingObjectReader<Row> rows =
+ *     new NonBlockingObjectReader<>(Row_XMLMapperImpl.INSTANCE, new QName("rows"), this::process);
+ * // for every network chunk
+ * rows.feed(chunk);
+ * // once the body is complete
+ * rows.endOfInput();
+ * }</pre>
+ *
+ * @param <T> Type of the read objects
+ */
+public class NonBlockingObjectReader<T> {
+
+  private static final AsyncXMLInputFactory factory = new InputFactoryImpl();
+
+  private final AsyncXMLStreamReader<AsyncByteBufferFeeder> parser =
+      factory.createAsyncForByteBuffer();
+  private final BufferedXMLReader.Recorder recorder = BufferedXMLReader.recorder();
+  private final ObjectReader<T> mapper;
+  private final QName container;
+  private final XMLDeserializationContext ctx;
+  private final Consumer<T> consumer;
+
+  private boolean inContainer;
+  private int depth;
+  private boolean done;
+
+  /**
+   * Constructor for NonBlockingObjectReader.
+   *
+   * @param mapper the mapper of the child elements.
+   * @param container the element holding the children, the root element if null.
+   * @param consumer receives every object once it is complete.
+   */
+  public NonBlockingObjectReader(ObjectReader<T> mapper, QName container, Consumer<T> consumer) {
+    this(mapper, container, DefaultXMLDeserializationContext.builder().build(), consumer);
+  }
+
+  /**
+   * Constructor for NonBlockingObjectReader.
+   *
+   * @param mapper the mapper of the child elements.
+   * @param container the element holding the children, the root element if null.
+   * @param ctx Context for the full reading process.
+   * @param consumer receives every object once it is complete.
+   */
+  public NonBlockingObjectReader(
+      ObjectReader<T> mapper,
+      QName container,
+      XMLDeserializationContext ctx,
+      Consumer<T> consumer) {
+    this.mapper = mapper;
+    this.container = container;
+    this.ctx = ctx;
+    this.consumer = consumer;
+  }
+
+  /**
+   * Parses the next chunk of the document. The buffer is fully consumed when the method returns, so
+   * it can be reused by the caller.
+   *
+   * @param input a {@link ByteBuffer} object.
+   */
+  public void feed(ByteBuffer input) throws XMLStreamException {
+    if (done) {
+      return;
+    }
+    parser.getInputFeeder().feedInput(input);
+    parse();
+  }
+
+  /**
+   * Parses the next chunk of the document.
+   *
+   * @param input a byte array.
+   * @param offset offset of the chunk in {@code input}.
+   * @param length length of the chunk.
+   */
+  public void feed(byte[] input, int offset, int length) throws XMLStreamException {
+    feed(ByteBuffer.wrap(input, offset, length));
+  }
+
+  /** Signals that the whole document has been fed. */
+  public void endOfInput() throws XMLStreamException {
+    if (done) {
+      return;
+    }
+    parser.getInputFeeder().endOfInput();
+    parse();
+    done = true;
+  }
+
+  /** @return true if the parser waits for the next chunk */
+  public boolean needsInput() {
+    return !done && parser.getInputFeeder().needMoreInput();
+  }
+
+  /** @return true if the container element has been closed or the input has ended */
+  public boolean isDone() {
+    return done;
+  }
+
+  private void parse() throws XMLStreamException {
+    while (!done && parser.hasNext()) {
+      int event = parser.next();
+      if (event == AsyncXMLStreamReader.EVENT_INCOMPLETE) {
+        return;
+      }
+      accept(event);
+    }
+  }
+
+  private void accept(int event) throws XMLStreamException {
+    if (!inContainer) {
+      inContainer =
+          event == XMLStreamConstants.START_ELEMENT
+              && MappingIterator.isContainer(container, parser.getName());
+      return;
+    }
+    if (depth == 0) {
+      if (event == XMLStreamConstants.END_ELEMENT) {
+        done = true;
+        parser.close();
+        return;
+      }
+      if (event != XMLStreamConstants.START_ELEMENT) {
+        return;
+      }
+    }
+    if (event == XMLStreamConstants.START_ELEMENT) {
+      depth++;
+    } else if (event == XMLStreamConstants.END_ELEMENT) {
+      depth--;
+    }
+    recorder.add(parser);
+    if (depth == 0) {
+      emit(recorder.build());
+    }
+  }
+
+  private void emit(XMLReader reader) throws XMLStreamException {
+    T value;
+    try {
+      value = mapper.getDeserializer(reader).deserialize(reader, ctx);
+    } catch (XMLDeserializationException e) {
+      // already logged, we just throw it
+      throw e;
+    } catch (RuntimeException e) {
+      throw ctx.traceError(e, reader);
+    }
+    consumer.accept(value);
+  }
+}
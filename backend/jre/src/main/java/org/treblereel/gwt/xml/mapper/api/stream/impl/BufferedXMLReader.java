@@ -0,0 +1,427 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.treblereel.gwt.xml.mapper.api.stream.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
+import org.treblereel.gwt.xml.mapper.api.utils.NumberUtils;
+
+/**
+ * {@link XMLReader} over events recorded from another parser, so a complete element can be bound
+ * after it has been read without blocking. Consecutive text segments are merged and whitespace
+ * between tags is dropped, like {@link DefaultXMLReader} does. Every event keeps the position it
+ * had in the input, and the excerpt of an error is rebuilt from the events around the current one.
+ */
+public class BufferedXMLReader implements XMLReader {
+
+  /** Number of events before and after the current one written into an excerpt. */
+  private static final int EXCERPT_EVENTS = 8;
+
+  private final List<Event> events;
+
+  private int position;
+
+  private Event current;
+
+  private BufferedXMLReader(List<Event> events) {
+    this.events = events;
+    this.current = events.get(0);
+  }
+
+  /** @return a new {@link Recorder} */
+  public static Recorder recorder() {
+    return new Recorder();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return position < events.size() - 1;
+  }
+
+  @Override
+  public int peek() {
+    return current.type;
+  }
+
+  @Override
+  public QName peekNodeName() {
+    return current.name;
+  }
+
+  @Override
+  public String rowValue() {
+    return current.text;
+  }
+
+  @Override
+  public String nextString() {
+    if (nextIsNull()) {
+      return null;
+    }
+    return current.text;
+  }
+
+  @Override
+  public boolean nextIsNull() {
+    if (current.type == XMLStreamConstants.START_ELEMENT) {
+      next();
+    }
+    return current.type == XMLStreamConstants.END_ELEMENT;
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    String value = nextString();
+    if (value == null) {
+      return false;
+    }
+    return Boolean.parseBoolean(value);
+  }
+
+  @Override
+  public double nextDouble() {
+    String value = nextString();
+    if (value == null) {
+      return 0;
+    }
+    return Double.parseDouble(value);
+  }
+
+  @Override
+  public float nextFloat() {
+    String value = nextString();
+    if (value == null) {
+      return 0;
+    }
+    return Float.parseFloat(value);
+  }
+
+  @Override
+  public long nextLong() {
+    String value = nextString();
+    if (value == null) {
+      return 0;
+    }
+    return Long.parseLong(value);
+  }
+
+  @Override
+  public int nextInt() {
+    String value = nextString();
+    if (value == null) {
+      return 0;
+    }
+    return Integer.parseInt(value);
+  }
+
+  @Override
+  public void close() {}
+
+  @Override
+  public void skipValue() {
+    next();
+  }
+
+  @Override
+  public void skipElement() {
+    if (current.type != XMLStreamConstants.START_ELEMENT) {
+      throw new IllegalStateException("Expected START_ELEMENT, but was " + current.type);
+    }
+    position = current.end;
+    current = events.get(position);
+  }
+
+  @Override
+  public String nextValue() {
+    return current.text;
+  }
+
+  @Override
+  public Number nextNumber() {
+    return NumberUtils.toNumber(nextString());
+  }
+
+  @Override
+  public void next() {
+    if (hasNext()) {
+      current = events.get(++position);
+    }
+  }
+
+  @Override
+  public Location getLocation() {
+    return current;
+  }
+
+  @Override
+  public String getPath() {
+    List<String> path = new ArrayList<>();
+    for (int i = 0; i <= position; i++) {
+      Event event = events.get(i);
+      if (event.type == XMLStreamConstants.START_ELEMENT) {
+        path.add(event.name.getLocalPart());
+      } else if (event.type == XMLStreamConstants.END_ELEMENT && i < position) {
+        path.remove(path.size() - 1);
+      }
+    }
+    return "/" + String.join("/", path);
+  }
+
+  @Override
+  public String getExcerpt() {
+    StringBuilder excerpt = new StringBuilder();
+    int end = Math.min(events.size(), position + EXCERPT_EVENTS + 1);
+    for (int i = Math.max(0, position - EXCERPT_EVENTS); i < end; i++) {
+      events.get(i).appendTo(excerpt);
+    }
+    return excerpt.toString();
+  }
+
+  @Override
+  public int getAttributeCount() {
+    return current.attributeNames.length;
+  }
+
+  @Override
+  public QName getAttributeName(int index) {
+    return current.attributeNames[index];
+  }
+
+  @Override
+  public String getAttributeValue(int index) {
+    return current.attributeValues[index];
+  }
+
+  @Override
+  public String getAttributeType(int index) {
+    return current.attributeTypes[index];
+  }
+
+  private static class Event implements Location {
+
+    private static final QName[] NO_NAMES = new QName[0];
+    private static final String[] NO_VALUES = new String[0];
+
+    private final int type;
+    private final QName name;
+    private String text;
+    // further text segments, merged into text when the recording is built
+    private StringBuilder segments;
+    private QName[] attributeNames = NO_NAMES;
+    private String[] attributeValues = NO_VALUES;
+    private String[] attributeTypes = NO_VALUES;
+    // index of the matching END_ELEMENT, for START_ELEMENT events
+    private int end;
+    private final int lineNumber;
+    private final int columnNumber;
+    private final int characterOffset;
+    private final String systemId;
+
+    private Event(int type, QName name, String text, XMLStreamReader reader) {
+      this.type = type;
+      this.name = name;
+      this.text = text;
+      // the parser may reuse its location for the next event, so it is copied
+      Location location = reader.getLocation();
+      this.lineNumber = location != null ? location.getLineNumber() : -1;
+      this.columnNumber = location != null ? location.getColumnNumber() : -1;
+      this.characterOffset = location != null ? location.getCharacterOffset() : -1;
+      this.systemId = location != null ? location.getSystemId() : null;
+    }
+
+    private void append(String segment) {
+      if (segments == null) {
+        segments = new StringBuilder(text);
+      }
+      segments.append(segment);
+    }
+
+    private String getText() {
+      if (segments != null) {
+        text = segments.toString();
+        segments = null;
+      }
+      return text;
+    }
+
+    private void appendTo(StringBuilder excerpt) {
+      switch (type) {
+        case XMLStreamConstants.START_ELEMENT:
+          excerpt.append('<').append(getQualifiedName(name));
+          for (int i = 0; i < attributeNames.length; i++) {
+            excerpt
+                .append(' ')
+                .append(getQualifiedName(attributeNames[i]))
+                .append("=\"")
+                .append(attributeValues[i])
+                .append('"');
+          }
+          excerpt.append('>');
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          excerpt.append("</").append(getQualifiedName(name)).append('>');
+          break;
+        case XMLStreamConstants.CDATA:
+          excerpt.append("<![CDATA[").append(text).append("]]>");
+          break;
+        default:
+          excerpt.append(text);
+          break;
+      }
+    }
+
+    private static String getQualifiedName(QName name) {
+      return name.getPrefix().isEmpty()
+          ? name.getLocalPart()
+          : name.getPrefix() + ':' + name.getLocalPart();
+    }
+
+    @Override
+    public int getLineNumber() {
+      return lineNumber;
+    }
+
+    @Override
+    public int getColumnNumber() {
+      return columnNumber;
+    }
+
+    @Override
+    public int getCharacterOffset() {
+      return characterOffset;
+    }
+
+    @Override
+    public String getPublicId() {
+      return null;
+    }
+
+    @Override
+    public String getSystemId() {
+      return systemId;
+    }
+  }
+
+  /** Records the events of one element, see {@link #add(XMLStreamReader)}. */
+  public static class Recorder {
+
+    private final List<Event> events = new ArrayList<>();
+
+    private final List<Event> open = new ArrayList<>();
+
+    private Recorder() {}
+
+    /**
+     * Records the current event of {@code reader}. Comments, processing instructions and the
+     * document events are ignored.
+     *
+     * @param reader a {@link XMLStreamReader} object.
+     */
+    public void add(XMLStreamReader reader) throws XMLStreamException {
+      switch (reader.getEventType()) {
+        case XMLStreamConstants.START_ELEMENT:
+          dropIgnorableWhitespace();
+          Event start = new Event(XMLStreamConstants.START_ELEMENT, reader.getName(), null, reader);
+          int count = reader.getAttributeCount();
+          if (count > 0) {
+            start.attributeNames = new QName[count];
+            start.attributeValues = new String[count];
+            start.attributeTypes = new String[count];
+            for (int i = 0; i < count; i++) {
+              start.attributeNames[i] = reader.getAttributeName(i);
+              start.attributeValues[i] = reader.getAttributeValue(i);
+              start.attributeTypes[i] = reader.getAttributeType(i);
+            }
+          }
+          events.add(start);
+          open.add(start);
+          break;
+        case XMLStreamConstants.END_ELEMENT:
+          open.remove(open.size() - 1).end = events.size();
+          events.add(new Event(XMLStreamConstants.END_ELEMENT, reader.getName(), null, reader));
+          break;
+        case XMLStreamConstants.CHARACTERS:
+        case XMLStreamConstants.SPACE:
+        case XMLStreamConstants.CDATA:
+          int type =
+              reader.getEventType() == XMLStreamConstants.CDATA
+                  ? XMLStreamConstants.CDATA
+                  : XMLStreamConstants.CHARACTERS;
+          Event last = events.isEmpty() ? null : events.get(events.size() - 1);
+          if (last != null && last.type == type) {
+            last.append(reader.getText());
+          } else if (!open.isEmpty()) {
+            if (type == XMLStreamConstants.CDATA) {
+              dropIgnorableWhitespace();
+            }
+            events.add(new Event(type, null, reader.getText(), reader));
+          }
+          break;
+        default:
+          break;
+      }
+    }
+
+    /** @return true if the recorded element is complete */
+    public boolean isComplete() {
+      return !events.isEmpty() && open.isEmpty();
+    }
+
+    /**
+     * Creates a reader over the recorded events and resets the recorder.
+     *
+     * @return a {@link XMLReader} object.
+     */
+    public XMLReader build() {
+      if (!isComplete()) {
+        throw new IllegalStateException("element is not complete");
+      }
+      for (Event event : events) {
+        event.getText();
+      }
+      XMLReader reader = new BufferedXMLReader(new ArrayList<>(events));
+      events.clear();
+      return reader;
+    }
+
+    /** Whitespace-only text is kept only if it is followed by an END_ELEMENT */
+    private void dropIgnorableWhitespace() {
+      if (events.isEmpty()) {
+        return;
+      }
+      Event last = events.get(events.size() - 1);
+      if (last.type == XMLStreamConstants.CHARACTERS && isWhitespace(last.getText())) {
+        events.remove(events.size() - 1);
+      }
+    }
+
+    private static boolean isWhitespace(String text) {
+      for (int i = 0; i < text.length(); i++) {
+        if (text.charAt(i) > ' ') {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -32,23 +32,47 @@
 
 package org.treblereel.gwt.xml.mapper.api.stream.impl;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
 import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
+import org.codehaus.stax2.XMLStreamReader2;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 import org.treblereel.gwt.xml.mapper.api.utils.NumberUtils;
 
 public class DefaultXMLReader implements XMLReader {
 
+  private static final char[] TRUE = {'t', 'r', 'u', 'e'};
+
+  /** The size of the first buffer {@link #nextBinary()} decodes into, it doubles as it fills up. */
+  private static final int BINARY_CHUNK = 8 * 1024;
+
   private final XMLStreamReader reader;
 
-  private final String input;
+  private final InputExcerpt excerpt;
+
+  /** local names of the elements from the root to the current one */
+  private final List<String> path = new ArrayList<>();
+
+  /**
+   * Text of a whitespace-only CHARACTERS event that is reported as the current event while the
+   * underlying reader has already moved past it, see {@link #advance()}.
+   */
+  private String heldText;
+
+  /** true if the underlying reader already sits on the event that follows {@link #heldText} */
+  private boolean heldAhead;
 
   /**
-   * Creates a new instance that reads a JSON-encoded stream from {@code in}.
+   * Creates a new instance that reads a XML document from {@code in}.
    *
    * @param in a {@link String} object.
    */
@@ -56,26 +80,78 @@ public class DefaultXMLReader implements XMLReader {
     if (in == null) {
       throw new NullPointerException("in == null");
     }
-    this.input = in.replaceAll("(?!>\\s+</)(>\\s+<)", "><");
+    if (xmlInputFactory == null) {
+      throw new NullPointerException("xmlInputFactory == null");
+    }
+    this.excerpt = null;
+    this.reader = xmlInputFactory.createXMLStreamReader(new StringReader(in));
+  }
 
+  /**
+   * Creates a new instance that reads a XML document from {@code in}, the encoding is detected from
+   * the byte order mark or the XML declaration of the document.
+   *
+   * @param in a {@link InputStream} object.
+   */
+  public DefaultXMLReader(XMLInputFactory xmlInputFactory, InputStream in)
+      throws XMLStreamException {
+    if (in == null) {
+      throw new NullPointerException("in == null");
+    }
+    if (xmlInputFactory == null) {
+      throw new NullPointerException("xmlInputFactory == null");
+    }
+    this.excerpt = null;
+    this.reader = xmlInputFactory.createXMLStreamReader(in);
+  }
+
+  /**
+   * Creates a new instance that reads a XML document from {@code in}.
+   *
+   * @param in a {@link Reader} object.
+   */
+  public DefaultXMLReader(XMLInputFactory xmlInputFactory, Reader in) throws XMLStreamException {
+    if (in == null) {
+      throw new NullPointerException("in == null");
+    }
     if (xmlInputFactory == null) {
       throw new NullPointerException("xmlInputFactory == null");
     }
+    this.excerpt = null;
+    this.reader = xmlInputFactory.createXMLStreamReader(in);
+  }
 
-    InputStream byteArrayInputStream = new ByteArrayInputStream(input.getBytes());
-    reader = xmlInputFactory.createXMLStreamReader(byteArrayInputStream);
+  /**
+   * Creates a new instance that reads a XML document from the input wrapped by {@code excerpt},
+   * which is reported by {@link #getExcerpt()}.
+   *
+   * @param excerpt a {@link InputExcerpt} object.
+   */
+  public DefaultXMLReader(XMLInputFactory xmlInputFactory, InputExcerpt excerpt)
+      throws XMLStreamException {
+    if (excerpt == null) {
+      throw new NullPointerException("excerpt == null");
+    }
+    if (xmlInputFactory == null) {
+      throw new NullPointerException("xmlInputFactory == null");
+    }
+    this.excerpt = excerpt;
+    this.reader =
+        excerpt.getReader() != null
+            ? xmlInputFactory.createXMLStreamReader(excerpt.getReader())
+            : xmlInputFactory.createXMLStreamReader(excerpt.getInputStream());
   }
 
   /** {@inheritDoc} */
   @Override
   public boolean hasNext() throws XMLStreamException {
-    return reader.hasNext();
+    return heldText != null || reader.hasNext();
   }
 
   /** {@inheritDoc} */
   @Override
   public int peek() {
-    return reader.getEventType();
+    return heldText != null ? XMLStreamConstants.CHARACTERS : reader.getEventType();
   }
 
   @Override
@@ -85,60 +161,107 @@ public class DefaultXMLReader implements XMLReader {
 
   @Override
   public String rowValue() throws XMLStreamException {
-    return reader.getText();
+    return text();
   }
 
   /** {@inheritDoc} */
   @Override
   public String nextString() throws XMLStreamException {
     if (peek() == 1) {
-      reader.next();
+      advance();
     }
 
     if (peek() == 2) {
       return null;
     }
-    return reader.getText();
+    return text();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean nextIsNull() throws XMLStreamException {
+    if (peek() == 1) {
+      advance();
+    }
+    return peek() == 2;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public byte[] nextBinary() throws XMLStreamException {
+    if (peek() != XMLStreamConstants.START_ELEMENT || !(reader instanceof XMLStreamReader2)) {
+      return XMLReader.super.nextBinary();
+    }
+    // the parser decodes its text buffer segment by segment, the text is never built as a String
+    XMLStreamReader2 typed = (XMLStreamReader2) reader;
+    byte[] result = new byte[BINARY_CHUNK];
+    int size = 0;
+    int read;
+    while ((read = typed.readElementAsBinary(result, size, result.length - size)) != -1) {
+      size += read;
+      if (size == result.length) {
+        result = Arrays.copyOf(result, size * 2);
+      }
+    }
+    return Arrays.copyOf(result, size);
   }
 
   /** {@inheritDoc} */
   @Override
   public boolean nextBoolean() throws XMLStreamException {
-    String value = nextString();
-    if (value == null) {
+    if (nextIsNull()) {
+      return false;
+    }
+    if (heldText != null) {
+      return Boolean.parseBoolean(heldText);
+    }
+    char[] chars = reader.getTextCharacters();
+    int start = reader.getTextStart();
+    if (reader.getTextLength() != TRUE.length) {
       return false;
     }
-    return Boolean.valueOf(value);
+    for (int i = 0; i < TRUE.length; i++) {
+      if (Character.toLowerCase(chars[start + i]) != TRUE[i]) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /** {@inheritDoc} */
   @Override
   public double nextDouble() throws XMLStreamException {
-    String value = nextString();
-    if (value == null) {
+    if (nextIsNull()) {
       return 0;
     }
-    return Double.valueOf(value);
+    return Double.parseDouble(text());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public float nextFloat() throws XMLStreamException {
+    if (nextIsNull()) {
+      return 0;
+    }
+    return Float.parseFloat(text());
   }
 
   /** {@inheritDoc} */
   @Override
   public long nextLong() throws XMLStreamException {
-    String value = nextString();
-    if (value == null) {
+    if (nextIsNull()) {
       return 0;
     }
-    return Long.valueOf(value);
+    return parseLong(Long.MIN_VALUE, Long.MAX_VALUE);
   }
 
   /** {@inheritDoc} */
   @Override
   public int nextInt() throws XMLStreamException {
-    String value = nextString();
-    if (value == null) {
+    if (nextIsNull()) {
       return 0;
     }
-    return Integer.valueOf(value);
+    return (int) parseLong(Integer.MIN_VALUE, Integer.MAX_VALUE);
   }
 
   /** {@inheritDoc} */
@@ -150,19 +273,53 @@ public class DefaultXMLReader implements XMLReader {
   /** {@inheritDoc} */
   @Override
   public void skipValue() throws XMLStreamException {
-    reader.next();
+    advance();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void skipElement() throws XMLStreamException {
+    if (peek() != XMLStreamConstants.START_ELEMENT) {
+      throw new IllegalStateException("Expected START_ELEMENT, but was " + peek());
+    }
+    if (reader instanceof XMLStreamReader2) {
+      // the path is updated once the reader moves past the END_ELEMENT
+      ((XMLStreamReader2) reader).skipElement();
+      return;
+    }
+    int depth = 1;
+    while (depth > 0) {
+      int event = nextEvent();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public String nextValue() {
-    return reader.getText();
+    return text();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Location getLocation() {
+    return reader.getLocation();
   }
 
   /** {@inheritDoc} */
   @Override
-  public String getInput() throws XMLStreamException {
-    return input;
+  public String getPath() {
+    return "/" + String.join("/", path);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getExcerpt() {
+    return excerpt != null ? excerpt.toString() : null;
   }
 
   /** {@inheritDoc} */
@@ -173,7 +330,7 @@ public class DefaultXMLReader implements XMLReader {
 
   @Override
   public void next() throws XMLStreamException {
-    reader.next();
+    advance();
   }
 
   @Override
@@ -195,4 +352,112 @@ public class DefaultXMLReader implements XMLReader {
   public String getAttributeType(int index) {
     return reader.getAttributeType(index);
   }
+
+  private String text() {
+    return heldText != null ? heldText : reader.getText();
+  }
+
+  /**
+   * Moves to the next event, dropping whitespace-only text between tags. Whitespace that is the
+   * only content of an element, like in {@code <a> </a>}, is kept, so the reader has to look one
+   * event ahead before it can decide.
+   */
+  private void advance() throws XMLStreamException {
+    if (heldText != null) {
+      heldText = null;
+      if (heldAhead) {
+        return;
+      }
+    }
+    if (nextEvent() != XMLStreamConstants.CHARACTERS || !reader.isWhiteSpace()) {
+      return;
+    }
+    // the parser may split a text into several segments, they are only joined if there are more
+    String whitespace = reader.getText();
+    StringBuilder segments = null;
+    int event = nextEvent();
+    while (event == XMLStreamConstants.CHARACTERS && reader.isWhiteSpace()) {
+      if (segments == null) {
+        segments = new StringBuilder(whitespace);
+      }
+      segments.append(reader.getText());
+      event = nextEvent();
+    }
+    if (event == XMLStreamConstants.END_ELEMENT) {
+      heldText = segments != null ? segments.toString() : whitespace;
+      heldAhead = true;
+    } else if (event == XMLStreamConstants.CHARACTERS) {
+      heldText =
+          segments != null
+              ? segments.append(reader.getText()).toString()
+              : whitespace.concat(reader.getText());
+      heldAhead = false;
+    }
+  }
+
+  /**
+   * Parses the current text as a decimal integer straight from the parser's character buffer, so no
+   * {@link String} is created for the value. It accepts what {@link Long#parseLong(String)} does.
+   */
+  private long parseLong(long min, long max) {
+    String text = heldText;
+    char[] chars = null;
+    int start = 0;
+    int end;
+    if (text != null) {
+      end = text.length();
+    } else {
+      chars = reader.getTextCharacters();
+      start = reader.getTextStart();
+      end = start + reader.getTextLength();
+    }
+
+    int i = start;
+    boolean negative = false;
+    if (i < end && (charAt(chars, text, i) == '-' || charAt(chars, text, i) == '+')) {
+      negative = charAt(chars, text, i) == '-';
+      i++;
+    }
+    if (i == end) {
+      throw numberFormatException(chars, text, start, end);
+    }
+    long limit = negative ? min : -max;
+    long multmin = limit / 10;
+    long result = 0;
+    for (; i < end; i++) {
+      int digit = Character.digit(charAt(chars, text, i), 10);
+      if (digit < 0 || result < multmin) {
+        throw numberFormatException(chars, text, start, end);
+      }
+      result *= 10;
+      if (result < limit + digit) {
+        throw numberFormatException(chars, text, start, end);
+      }
+      result -= digit;
+    }
+    return negative ? result : -result;
+  }
+
+  private static char charAt(char[] chars, String text, int index) {
+    return chars != null ? chars[index] : text.charAt(index);
+  }
+
+  private static NumberFormatException numberFormatException(
+      char[] chars, String text, int start, int end) {
+    return new NumberFormatException(
+        "For input string: \""
+            + (chars != null ? new String(chars, start, end - start) : text)
+            + "\"");
+  }
+
+  private int nextEvent() throws XMLStreamException {
+    if (reader.getEventType() == XMLStreamConstants.END_ELEMENT && !path.isEmpty()) {
+      path.remove(path.size() - 1);
+    }
+    int event = reader.next();
+    if (event == XMLStreamConstants.START_ELEMENT) {
+      path.add(reader.getLocalName());
+    }
+    return event;
+  }
 }
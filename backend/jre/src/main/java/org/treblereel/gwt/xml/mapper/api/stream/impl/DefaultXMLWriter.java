@@ -32,10 +32,14 @@
 
 package org.treblereel.gwt.xml.mapper.api.stream.impl;
 
+import java.io.OutputStream;
 import java.io.StringWriter;
+import java.io.Writer;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
+import org.codehaus.stax2.XMLStreamWriter2;
+import org.codehaus.stax2.typed.Base64Variants;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 
 /**
@@ -49,7 +53,11 @@ public class DefaultXMLWriter implements XMLWriter {
   /** The output data, containing at most one top-level array or object. */
   private final XMLStreamWriter out;
 
-  private final StringWriter sw = new StringWriter();
+  /** The buffer holding the output, or null when it is written to a caller's output. */
+  private final StringWriter sw;
+
+  /** The encoding declared in the XML declaration, or null to let the writer choose it. */
+  private final String encoding;
 
   private String deferredName;
   private boolean serializeNulls = true;
@@ -66,9 +74,61 @@ public class DefaultXMLWriter implements XMLWriter {
     if (xmlOutputFactory == null) {
       throw new NullPointerException("xmlOutputFactory == null");
     }
+    this.sw = new StringWriter();
+    this.encoding = null;
     this.out = xmlOutputFactory.createXMLStreamWriter(sw);
   }
 
+  /**
+   * Creates a new instance that writes a XML-encoded stream to {@code output}. {@link #getOutput()}
+   * returns null.
+   *
+   * @param output a {@link Writer} object, it is not closed by {@link #close()}.
+   */
+  public DefaultXMLWriter(XMLOutputFactory xmlOutputFactory, Writer output)
+      throws XMLStreamException {
+    if (xmlOutputFactory == null) {
+      throw new NullPointerException("xmlOutputFactory == null");
+    }
+    if (output == null) {
+      throw new NullPointerException("output == null");
+    }
+    this.sw = null;
+    this.encoding = null;
+    this.out = xmlOutputFactory.createXMLStreamWriter(output);
+  }
+
+  /**
+   * Creates a new instance that writes a XML-encoded stream to {@code output}, encoded with {@code
+   * encoding}. {@link #getOutput()} returns null.
+   *
+   * @param output a {@link OutputStream} object, it is not closed by {@link #close()}.
+   * @param encoding the name of the encoding, declared in the XML declaration.
+   */
+  public DefaultXMLWriter(XMLOutputFactory xmlOutputFactory, OutputStream output, String encoding)
+      throws XMLStreamException {
+    if (xmlOutputFactory == null) {
+      throw new NullPointerException("xmlOutputFactory == null");
+    }
+    if (output == null) {
+      throw new NullPointerException("output == null");
+    }
+    if (encoding == null) {
+      throw new NullPointerException("encoding == null");
+    }
+    this.sw = null;
+    this.encoding = encoding;
+    this.out = xmlOutputFactory.createXMLStreamWriter(output, encoding);
+  }
+
+  private void writeStartDocument() throws XMLStreamException {
+    if (encoding == null) {
+      out.writeStartDocument();
+    } else {
+      out.writeStartDocument(encoding, "1.0");
+    }
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -104,7 +164,7 @@ public class DefaultXMLWriter implements XMLWriter {
   @Override
   public DefaultXMLWriter beginObject(String name) throws XMLStreamException {
     if (objCounter == 0) {
-      out.writeStartDocument();
+      writeStartDocument();
     }
     out.writeStartElement(name);
     objCounter++;
@@ -114,7 +174,7 @@ public class DefaultXMLWriter implements XMLWriter {
   @Override
   public DefaultXMLWriter beginObject(String namespace, String name) throws XMLStreamException {
     if (objCounter == 0) {
-      out.writeStartDocument();
+      writeStartDocument();
     }
     out.writeStartElement(name);
     out.writeAttribute("xmlns", namespace);
@@ -127,7 +187,7 @@ public class DefaultXMLWriter implements XMLWriter {
   public DefaultXMLWriter beginObject(String prefix, String namespace, String name)
       throws XMLStreamException {
     if (objCounter == 0) {
-      out.writeStartDocument();
+      writeStartDocument();
     }
     out.setPrefix(prefix, namespace);
     out.writeStartElement(namespace, name);
@@ -227,9 +287,9 @@ public class DefaultXMLWriter implements XMLWriter {
     String string = value.toString();
 
     if (string.equals("-Infinity") || string.equals("Infinity") || string.equals("NaN")) {
-      throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+      throw new IllegalArgumentException("Numeric values must be finite, but was " + string);
     }
-    value(value.toString());
+    value(string);
     return this;
   }
 
@@ -248,7 +308,7 @@ public class DefaultXMLWriter implements XMLWriter {
   /** {@inheritDoc} */
   @Override
   public String getOutput() {
-    return sw.toString();
+    return sw != null ? sw.toString() : null;
   }
 
   @Override
@@ -279,6 +339,61 @@ public class DefaultXMLWriter implements XMLWriter {
     out.writeCharacters(value);
   }
 
+  @Override
+  public void writeInt(int value) throws XMLStreamException {
+    if (out instanceof XMLStreamWriter2) {
+      ((XMLStreamWriter2) out).writeInt(value);
+    } else {
+      out.writeCharacters(Integer.toString(value));
+    }
+  }
+
+  @Override
+  public void writeLong(long value) throws XMLStreamException {
+    if (out instanceof XMLStreamWriter2) {
+      ((XMLStreamWriter2) out).writeLong(value);
+    } else {
+      out.writeCharacters(Long.toString(value));
+    }
+  }
+
+  @Override
+  public void writeFloat(float value) throws XMLStreamException {
+    if (out instanceof XMLStreamWriter2) {
+      ((XMLStreamWriter2) out).writeFloat(value);
+    } else {
+      out.writeCharacters(Float.toString(value));
+    }
+  }
+
+  @Override
+  public void writeDouble(double value) throws XMLStreamException {
+    if (out instanceof XMLStreamWriter2) {
+      ((XMLStreamWriter2) out).writeDouble(value);
+    } else {
+      out.writeCharacters(Double.toString(value));
+    }
+  }
+
+  @Override
+  public void writeBoolean(boolean value) throws XMLStreamException {
+    if (out instanceof XMLStreamWriter2) {
+      ((XMLStreamWriter2) out).writeBoolean(value);
+    } else {
+      out.writeCharacters(value ? "true" : "false");
+    }
+  }
+
+  @Override
+  public void writeBinary(byte[] value, int offset, int length) throws XMLStreamException {
+    if (out instanceof XMLStreamWriter2) {
+      // the default variant breaks lines, Base64Utils doesn't
+      ((XMLStreamWriter2) out).writeBinary(Base64Variants.MIME_NO_LINEFEEDS, value, offset, length);
+    } else {
+      XMLWriter.super.writeBinary(value, offset, length);
+    }
+  }
+
   @Override
   public void writeAttribute(String propertyName, String value) throws XMLStreamException {
     if (propertyName != null && value != null) {
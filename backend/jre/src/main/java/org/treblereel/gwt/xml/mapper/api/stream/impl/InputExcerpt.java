@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.treblereel.gwt.xml.mapper.api.stream.impl;
+
+import java.io.FilterInputStream;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Keeps the last characters, or bytes, the parser has pulled from its input in a fixed size ring
+ * buffer, so an error can be reported with the surrounding input without retaining the whole
+ * document. Since the parser reads ahead, the excerpt reaches a bit past the failure point.
+ */
+public class InputExcerpt {
+
+  private final char[] chars;
+  private final byte[] bytes;
+  private long count;
+  private Reader reader;
+  private InputStream stream;
+
+  private InputExcerpt(int length, boolean binary) {
+    this.chars = binary ? null : new char[length];
+    this.bytes = binary ? new byte[length] : null;
+  }
+
+  /**
+   * Wraps {@code in} so the characters read from it are recorded.
+   *
+   * @param in a {@link Reader} object.
+   * @param length the size of the excerpt.
+   * @return an {@link InputExcerpt} object.
+   */
+  public static InputExcerpt of(Reader in, int length) {
+    return new InputExcerpt(length, false).source(in);
+  }
+
+  /**
+   * Wraps {@code in} so the bytes read from it are recorded.
+   *
+   * @param in a {@link InputStream} object.
+   * @param length the size of the excerpt.
+   * @return an {@link InputExcerpt} object.
+   */
+  public static InputExcerpt of(InputStream in, int length) {
+    return new InputExcerpt(length, true).source(in);
+  }
+
+  private InputExcerpt source(Reader in) {
+    this.reader =
+        new FilterReader(in) {
+          @Override
+          public int read() throws IOException {
+            int c = super.read();
+            if (c >= 0) {
+              chars[(int) (count++ % chars.length)] = (char) c;
+            }
+            return c;
+          }
+
+          @Override
+          public int read(char[] cbuf, int off, int len) throws IOException {
+            int read = super.read(cbuf, off, len);
+            for (int i = 0; i < read; i++) {
+              chars[(int) (count++ % chars.length)] = cbuf[off + i];
+            }
+            return read;
+          }
+        };
+    return this;
+  }
+
+  private InputExcerpt source(InputStream in) {
+    this.stream =
+        new FilterInputStream(in) {
+          @Override
+          public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+              bytes[(int) (count++ % bytes.length)] = (byte) b;
+            }
+            return b;
+          }
+
+          @Override
+          public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            for (int i = 0; i < read; i++) {
+              bytes[(int) (count++ % bytes.length)] = b[off + i];
+            }
+            return read;
+          }
+        };
+    return this;
+  }
+
+  /** @return the recording {@link Reader}, if the excerpt was created for a {@link Reader} */
+  public Reader getReader() {
+    return reader;
+  }
+
+  /**
+   * @return the recording {@link InputStream}, if the excerpt was created for a {@link InputStream}
+   */
+  public InputStream getInputStream() {
+    return stream;
+  }
+
+  /**
+   * Returns the recorded input. Bytes are decoded as UTF-8, the excerpt may start in the middle of
+   * a character.
+   *
+   * @return a {@link String} object.
+   */
+  @Override
+  public String toString() {
+    int capacity = chars != null ? chars.length : bytes.length;
+    int length = (int) Math.min(count, capacity);
+    int start = (int) ((count - length) % capacity);
+    if (chars != null) {
+      char[] result = new char[length];
+      for (int i = 0; i < length; i++) {
+        result[i] = chars[(start + i) % capacity];
+      }
+      return new String(result);
+    }
+    byte[] result = new byte[length];
+    for (int i = 0; i < length; i++) {
+      result[i] = bytes[(start + i) % capacity];
+    }
+    return new String(result, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.treblereel.gwt.xml.mapper.api.stream.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * {@link InputStream} over a memory-mapped {@link FileChannel}. The file is mapped window by
+ * window, so files larger than a single {@link java.nio.MappedByteBuffer} can hold (2 GB) are
+ * supported and the page cache does the buffering instead of the heap.
+ */
+public class MappedFileInputStream extends InputStream {
+
+  public static final long DEFAULT_WINDOW_SIZE = Integer.MAX_VALUE;
+
+  private final FileChannel channel;
+
+  private final long windowSize;
+
+  private final long limit;
+
+  private long position;
+
+  private ByteBuffer window;
+
+  /**
+   * Creates a new instance that reads {@code channel} from its current position to its end.
+   *
+   * @param channel a {@link FileChannel} object.
+   */
+  public MappedFileInputStream(FileChannel channel) throws IOException {
+    this(channel, DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Creates a new instance that reads {@code channel} from its current position to its end.
+   *
+   * @param channel a {@link FileChannel} object.
+   * @param windowSize the maximum number of bytes mapped at once.
+   */
+  public MappedFileInputStream(FileChannel channel, long windowSize) throws IOException {
+    if (channel == null) {
+      throw new NullPointerException("channel == null");
+    }
+    if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("windowSize out of range : " + windowSize);
+    }
+    this.channel = channel;
+    this.windowSize = windowSize;
+    this.position = channel.position();
+    this.limit = channel.size();
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!ensureWindow()) {
+      return -1;
+    }
+    return window.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!ensureWindow()) {
+      return -1;
+    }
+    int count = Math.min(len, window.remaining());
+    window.get(b, off, count);
+    return count;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    if (n <= 0) {
+      return 0;
+    }
+    long available = limit - position + (window != null ? window.remaining() : 0);
+    long skipped = Math.min(n, available);
+    if (window != null && skipped <= window.remaining()) {
+      window.position(window.position() + (int) skipped);
+    } else {
+      position += skipped - (window != null ? window.remaining() : 0);
+      window = null;
+    }
+    return skipped;
+  }
+
+  @Override
+  public int available() {
+    long available = limit - position + (window != null ? window.remaining() : 0);
+    return (int) Math.min(available, Integer.MAX_VALUE);
+  }
+
+  /** Releases the current window, the channel is owned by the caller and stays open. */
+  @Override
+  public void close() {
+    window = null;
+  }
+
+  private boolean ensureWindow() throws IOException {
+    if (window != null && window.hasRemaining()) {
+      return true;
+    }
+    if (position >= limit) {
+      return false;
+    }
+    long size = Math.min(windowSize, limit - position);
+    window = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+    position += size;
+    return true;
+  }
+}
@@ -0,0 +1,946 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.treblereel.gwt.xml.mapper.api.stream.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLStreamException;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLName;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
+
+/**
+ * {@link XMLWriter} that encodes UTF-8 itself into a byte buffer, without StAX. It writes the same
+ * output as {@link DefaultXMLWriter} over Woodstox: the same escaping, empty elements written as
+ * {@code <name/>} and element prefixes resolved from the namespaces bound in scope.
+ *
+ * <p>The buffer is kept per thread and reused by the next writer once this one is closed. Without
+ * an output stream the whole document is buffered and {@link #getOutput()} decodes it, with one the
+ * buffer is written to the stream each time it fills up.
+ */
+public class Utf8XMLWriter implements XMLWriter {
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+
+  /** Larger buffers are not kept for the next writer of the thread. */
+  private static final int MAX_RECYCLED_SIZE = 64 * 1024;
+
+  /** The longest encoding of a single char: an entity such as {@code &#xfffe;}. */
+  private static final int MAX_CHAR_LENGTH = 8;
+
+  private static final ThreadLocal<byte[]> recycled = new ThreadLocal<>();
+
+  private static final byte[] XML_DECLARATION =
+      "<?xml version='1.0' encoding='UTF-8'?>".getBytes(StandardCharsets.US_ASCII);
+
+  private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+  /** The length of {@link Long#MIN_VALUE} in digits, with its sign. */
+  private static final int MAX_LONG_LENGTH = 20;
+
+  private static final String TEXT_OUTSIDE_ROOT =
+      "Trying to output non-whitespace characters outside main element tree (in prolog or"
+          + " epilog)";
+
+  private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+  private static final byte[] BASE64 =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+          .getBytes(StandardCharsets.US_ASCII);
+
+  /** The bytes encoded per buffer check, a multiple of 3 so only the last chunk is padded. */
+  private static final int BINARY_CHUNK = 3 * 1024;
+
+  /** Chars below this bound are looked up in the escape tables, others only from 0xFFFE. */
+  private static final int TABLE_SIZE = 0xA0;
+
+  private static final byte RAW = 0;
+  private static final byte ENTITY = 1;
+  private static final byte INVALID = 2;
+  private static final byte LT = 3;
+  private static final byte AMP = 4;
+  private static final byte GT = 5;
+  private static final byte QUOT = 6;
+
+  private static final byte[] TEXT_ESCAPES = new byte[TABLE_SIZE];
+  private static final byte[] ATTRIBUTE_ESCAPES = new byte[TABLE_SIZE];
+
+  static {
+    for (int c = 0; c < 0x20; c++) {
+      TEXT_ESCAPES[c] = INVALID;
+      ATTRIBUTE_ESCAPES[c] = INVALID;
+    }
+    for (int c = 0x7F; c < TABLE_SIZE; c++) {
+      TEXT_ESCAPES[c] = ENTITY;
+    }
+    TEXT_ESCAPES['\t'] = RAW;
+    TEXT_ESCAPES['\n'] = RAW;
+    TEXT_ESCAPES['\r'] = ENTITY;
+    TEXT_ESCAPES['<'] = LT;
+    TEXT_ESCAPES['&'] = AMP;
+    TEXT_ESCAPES['>'] = GT;
+
+    ATTRIBUTE_ESCAPES['\t'] = ENTITY;
+    ATTRIBUTE_ESCAPES['\n'] = ENTITY;
+    ATTRIBUTE_ESCAPES['\r'] = ENTITY;
+    ATTRIBUTE_ESCAPES['<'] = LT;
+    ATTRIBUTE_ESCAPES['&'] = AMP;
+    ATTRIBUTE_ESCAPES['"'] = QUOT;
+  }
+
+  /** The stream the buffer is written to, or null when the document is kept in the buffer. */
+  private final OutputStream output;
+
+  private byte[] buffer;
+  private int count;
+
+  /** The output decoded last, for {@link #getOutput()} after the writer is closed. */
+  private String result;
+
+  private int resultLength = -1;
+
+  /** Qualified names of the open elements. */
+  private String[] elements = new String[16];
+  /** the pre-encoded end tags of the open elements, null for the names given as strings */
+  private byte[][] endTags = new byte[16][];
+
+  /** For each open element, the bindings and default namespace in scope of its parent. */
+  private int[] bindingMarks = new int[16];
+
+  private String[] defaultNamespaces = new String[16];
+  private int depth;
+
+  /** The prefixes bound by the open elements and before the root element, in binding order. */
+  private String[] prefixes = new String[8];
+
+  private String[] uris = new String[8];
+  private int bindings;
+  private String defaultNamespace;
+
+  /** A start tag is written up to its attributes and may still get attributes. */
+  private boolean startTagOpen;
+
+  /** The open start tag belongs to an empty element. */
+  private boolean emptyElement;
+
+  private boolean rootWritten;
+
+  private String deferredName;
+  private XMLName deferredXMLName;
+  private boolean serializeNulls = true;
+  private boolean beginNs = true;
+  private boolean writeDefaultNamespace = true;
+  private int objCounter = 0;
+
+  /** Creates a new instance that keeps the document in memory, see {@link #getOutput()}. */
+  public Utf8XMLWriter() {
+    this.output = null;
+    this.buffer = acquireBuffer();
+  }
+
+  /**
+   * Creates a new instance that writes the document to {@code output}. {@link #getOutput()} returns
+   * null.
+   *
+   * @param output a {@link OutputStream} object, it is not closed by {@link #close()}.
+   */
+  public Utf8XMLWriter(OutputStream output) {
+    if (output == null) {
+      throw new NullPointerException("output == null");
+    }
+    this.output = output;
+    this.buffer = acquireBuffer();
+  }
+
+  private static byte[] acquireBuffer() {
+    byte[] buffer = recycled.get();
+    if (buffer != null) {
+      recycled.set(null);
+      return buffer;
+    }
+    return new byte[BUFFER_SIZE];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final boolean getSerializeNulls() {
+    return serializeNulls;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public final void setSerializeNulls(boolean serializeNulls) {
+    this.serializeNulls = serializeNulls;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter beginArray() throws XMLStreamException {
+    writeStartElement(deferredName, deferredXMLName);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter endArray() throws XMLStreamException {
+    writeEndElement();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter beginObject(String name) throws XMLStreamException {
+    return startObject(null, name, null);
+  }
+
+  @Override
+  public Utf8XMLWriter beginObject(String namespace, String name) throws XMLStreamException {
+    return startObject(namespace, name, null);
+  }
+
+  @Override
+  public Utf8XMLWriter beginObject(String prefix, String namespace, String name)
+      throws XMLStreamException {
+    return startObject(prefix, namespace, name, null);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter beginObject(XMLName name) throws XMLStreamException {
+    return startObject(null, name.getName(), name);
+  }
+
+  @Override
+  public Utf8XMLWriter beginObject(String namespace, XMLName name) throws XMLStreamException {
+    return startObject(namespace, name.getName(), name);
+  }
+
+  @Override
+  public Utf8XMLWriter beginObject(String prefix, String namespace, XMLName name)
+      throws XMLStreamException {
+    return startObject(prefix, namespace, name.getName(), name);
+  }
+
+  /** Begins an object, declaring {@code namespace} as the default one if it isn't null. */
+  private Utf8XMLWriter startObject(String namespace, String name, XMLName xmlName)
+      throws XMLStreamException {
+    if (objCounter == 0) {
+      writeStartDocument();
+    }
+    writeStartElement(name, xmlName);
+    if (namespace != null) {
+      writeAttributeUnchecked("xmlns", namespace);
+    }
+    objCounter++;
+    return this;
+  }
+
+  /** Begins an object in {@code namespace} bound to {@code prefix}. */
+  private Utf8XMLWriter startObject(String prefix, String namespace, String name, XMLName xmlName)
+      throws XMLStreamException {
+    if (objCounter == 0) {
+      writeStartDocument();
+    }
+    bind(prefix, namespace);
+    String elementPrefix = findPrefix(namespace);
+    if (xmlName != null) {
+      XMLName qualified = xmlName.withPrefix(elementPrefix);
+      writeStartElement(qualified.getName(), qualified);
+    } else {
+      writeStartElement(elementPrefix.isEmpty() ? name : elementPrefix + ':' + name, null);
+    }
+    objCounter++;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter endObject() throws XMLStreamException {
+    writeEndElement();
+    objCounter--;
+    if (objCounter == 0) {
+      writeEndDocument();
+    }
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter name(String name) {
+    checkName(name);
+    deferredName = '\"' + name + '\"';
+    deferredXMLName = null;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter unescapeName(String name) {
+    checkName(name);
+    deferredName = name;
+    deferredXMLName = null;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter unescapeName(XMLName name) {
+    deferredName = name.getName();
+    deferredXMLName = name;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter value(String value) throws XMLStreamException {
+    if (value == null) {
+      return nullValue();
+    }
+    writeStartElement(deferredName, deferredXMLName);
+    closeStartTag();
+    writeText(value);
+    writeEndElement();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter unescapeValue(String value) throws XMLStreamException {
+    if (value == null) {
+      return nullValue();
+    }
+    return value('\"' + value + '\"');
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter nullValue() throws XMLStreamException {
+    writeEmptyElement(deferredName, deferredXMLName);
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter value(boolean value) throws XMLStreamException {
+    writeStartElement(deferredName, deferredXMLName);
+    closeStartTag();
+    writeBytes(value ? TRUE : FALSE);
+    writeEndElement();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter value(double value) throws XMLStreamException {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+    }
+    return value(Double.toString(value));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter value(long value) throws XMLStreamException {
+    writeStartElement(deferredName, deferredXMLName);
+    closeStartTag();
+    writeDigits(value);
+    writeEndElement();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Utf8XMLWriter value(Number value) throws XMLStreamException {
+    if (value == null) {
+      return nullValue();
+    }
+    String string = value.toString();
+    if (string.equals("-Infinity") || string.equals("Infinity") || string.equals("NaN")) {
+      throw new IllegalArgumentException("Numeric values must be finite, but was " + string);
+    }
+    return value(string);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void flush() throws XMLStreamException {
+    if (output != null && buffer != null) {
+      writeBuffer();
+      try {
+        output.flush();
+      } catch (IOException e) {
+        throw new XMLStreamException(e);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void close() throws XMLStreamException {
+    if (buffer == null) {
+      return;
+    }
+    if (output != null) {
+      writeBuffer();
+    } else {
+      getOutput();
+    }
+    if (buffer.length <= MAX_RECYCLED_SIZE) {
+      recycled.set(buffer);
+    }
+    buffer = null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getOutput() {
+    if (output != null) {
+      return null;
+    }
+    if (buffer != null && resultLength != count) {
+      result = new String(buffer, 0, count, StandardCharsets.UTF_8);
+      resultLength = count;
+    }
+    return result;
+  }
+
+  @Override
+  public void writeDefaultNamespace(String namespace) throws XMLStreamException {
+    if (beginNs && writeDefaultNamespace) {
+      checkStartTagOpen("a namespace declaration");
+      writeAttributeUnchecked("xmlns", namespace);
+      defaultNamespace = namespace;
+      writeDefaultNamespace = false;
+    }
+  }
+
+  @Override
+  public void writeNamespace(String prefix, String namespace) throws XMLStreamException {
+    if (prefix == null || prefix.isEmpty()) {
+      checkStartTagOpen("a namespace declaration");
+      writeAttributeUnchecked("xmlns", namespace);
+      defaultNamespace = namespace;
+      return;
+    }
+    checkStartTagOpen("a namespace declaration");
+    writeAttributeUnchecked("xmlns:" + prefix, namespace);
+    bind(prefix, namespace);
+  }
+
+  @Override
+  public void endNs() {
+    beginNs = false;
+  }
+
+  @Override
+  public void writeCData(String value) throws XMLStreamException {
+    int index = value.indexOf("]]>");
+    if (index >= 0) {
+      throw new XMLStreamException(
+          "Illegal input: CDATA block has embedded ]]> in it (index " + index + ")");
+    }
+    closeStartTag();
+    writeAscii("<![CDATA[");
+    writeRaw(value);
+    writeAscii("]]>");
+  }
+
+  @Override
+  public void writeCharacters(String value) throws XMLStreamException {
+    if (depth == 0 && !isWhitespace(value)) {
+      throw new XMLStreamException(TEXT_OUTSIDE_ROOT);
+    }
+    closeStartTag();
+    writeText(value);
+  }
+
+  @Override
+  public void writeInt(int value) throws XMLStreamException {
+    startText();
+    writeDigits(value);
+  }
+
+  @Override
+  public void writeLong(long value) throws XMLStreamException {
+    startText();
+    writeDigits(value);
+  }
+
+  @Override
+  public void writeFloat(float value) throws XMLStreamException {
+    startText();
+    writeAscii(Float.toString(value));
+  }
+
+  @Override
+  public void writeDouble(double value) throws XMLStreamException {
+    startText();
+    writeAscii(Double.toString(value));
+  }
+
+  @Override
+  public void writeBoolean(boolean value) throws XMLStreamException {
+    startText();
+    writeBytes(value ? TRUE : FALSE);
+  }
+
+  @Override
+  public void writeBinary(byte[] value, int offset, int length) throws XMLStreamException {
+    if (length == 0) {
+      closeStartTag();
+      return;
+    }
+    startText();
+    int end = offset + length;
+    while (offset < end) {
+      int chunkEnd = Math.min(end, offset + BINARY_CHUNK);
+      ensureCapacity(4 * ((chunkEnd - offset + 2) / 3));
+      for (; offset + 3 <= chunkEnd; offset += 3) {
+        int b24 =
+            (value[offset] & 0xff) << 16
+                | (value[offset + 1] & 0xff) << 8
+                | value[offset + 2] & 0xff;
+        buffer[count++] = BASE64[b24 >> 18];
+        buffer[count++] = BASE64[(b24 >> 12) & 0x3f];
+        buffer[count++] = BASE64[(b24 >> 6) & 0x3f];
+        buffer[count++] = BASE64[b24 & 0x3f];
+      }
+      if (offset < chunkEnd) {
+        boolean twoBytes = offset + 1 < chunkEnd;
+        int b24 = (value[offset] & 0xff) << 16 | (twoBytes ? (value[offset + 1] & 0xff) << 8 : 0);
+        buffer[count++] = BASE64[b24 >> 18];
+        buffer[count++] = BASE64[(b24 >> 12) & 0x3f];
+        buffer[count++] = twoBytes ? BASE64[(b24 >> 6) & 0x3f] : (byte) '=';
+        buffer[count++] = '=';
+        offset = chunkEnd;
+      }
+    }
+  }
+
+  @Override
+  public void writeAttribute(String propertyName, String value) throws XMLStreamException {
+    if (propertyName != null && value != null) {
+      checkStartTagOpen("an attribute");
+      writeAttributeUnchecked(propertyName, value);
+    }
+  }
+
+  @Override
+  public void writeSchemaLocation(String xsi, String schemaLocation) throws XMLStreamException {
+    if (beginNs) {
+      checkStartTagOpen("an attribute");
+      writeAttributeUnchecked(xsi, schemaLocation);
+    }
+  }
+
+  @Override
+  public void writeTargetNamespace(String targetNamespace) throws XMLStreamException {
+    if (beginNs) {
+      checkStartTagOpen("an attribute");
+      writeAttributeUnchecked("targetNamespace", targetNamespace);
+    }
+  }
+
+  private void writeStartDocument() throws XMLStreamException {
+    writeBytes(XML_DECLARATION);
+  }
+
+  /** Opens the start tag of an element, the bindings made from now on are in its scope. */
+  private void writeStartElement(String name, XMLName xmlName) throws XMLStreamException {
+    openStartTag(name, xmlName);
+    if (depth == elements.length) {
+      elements = copyOf(elements, depth * 2);
+      byte[][] tags = new byte[depth * 2][];
+      System.arraycopy(endTags, 0, tags, 0, depth);
+      endTags = tags;
+      defaultNamespaces = copyOf(defaultNamespaces, depth * 2);
+      int[] marks = new int[depth * 2];
+      System.arraycopy(bindingMarks, 0, marks, 0, depth);
+      bindingMarks = marks;
+    }
+    elements[depth] = name;
+    endTags[depth] = xmlName != null ? xmlName.getEndTag() : null;
+    bindingMarks[depth] = bindings;
+    defaultNamespaces[depth] = defaultNamespace;
+    depth++;
+  }
+
+  /** Opens the start tag of an empty element, it has no scope of its own like in Woodstox. */
+  private void writeEmptyElement(String name, XMLName xmlName) throws XMLStreamException {
+    openStartTag(name, xmlName);
+    emptyElement = true;
+  }
+
+  private void openStartTag(String name, XMLName xmlName) throws XMLStreamException {
+    checkName(name);
+    closeStartTag();
+    if (depth == 0) {
+      if (rootWritten) {
+        throw new XMLStreamException("Trying to output second root, <" + name + ">");
+      }
+      rootWritten = true;
+    }
+    if (xmlName != null) {
+      writeBytes(xmlName.getStartTag());
+    } else {
+      ensureCapacity(1);
+      buffer[count++] = '<';
+      writeRaw(name);
+    }
+    startTagOpen = true;
+  }
+
+  private void writeEndElement() throws XMLStreamException {
+    if (emptyElement) {
+      closeStartTag();
+    }
+    if (depth == 0) {
+      throw new XMLStreamException("No open start element, when trying to write end element");
+    }
+    depth--;
+    if (startTagOpen) {
+      startTagOpen = false;
+      ensureCapacity(2);
+      buffer[count++] = '/';
+      buffer[count++] = '>';
+    } else if (endTags[depth] != null) {
+      writeBytes(endTags[depth]);
+    } else {
+      ensureCapacity(2);
+      buffer[count++] = '<';
+      buffer[count++] = '/';
+      writeRaw(elements[depth]);
+      ensureCapacity(1);
+      buffer[count++] = '>';
+    }
+    elements[depth] = null;
+    endTags[depth] = null;
+    bindings = bindingMarks[depth];
+    defaultNamespace = defaultNamespaces[depth];
+  }
+
+  /** Closes the elements left open, like {@code XMLStreamWriter.writeEndDocument()}. */
+  private void writeEndDocument() throws XMLStreamException {
+    while (depth > 0) {
+      closeStartTag();
+      writeEndElement();
+    }
+  }
+
+  /** Ends an open start tag, an empty element is ended as well. */
+  private void closeStartTag() throws XMLStreamException {
+    if (startTagOpen) {
+      startTagOpen = false;
+      ensureCapacity(2);
+      if (emptyElement) {
+        emptyElement = false;
+        buffer[count++] = '/';
+      }
+      buffer[count++] = '>';
+    }
+  }
+
+  private void checkStartTagOpen(String what) throws XMLStreamException {
+    if (!startTagOpen) {
+      throw new XMLStreamException(
+          "Trying to write " + what + " when there is no open start element.");
+    }
+  }
+
+  /** Binds a prefix in the scope of the open element, an empty prefix sets the default. */
+  private void bind(String prefix, String uri) {
+    if (uri == null) {
+      throw new NullPointerException("Can not pass null 'uri' value");
+    }
+    if (prefix == null || prefix.isEmpty()) {
+      defaultNamespace = uri;
+      return;
+    }
+    if (bindings == prefixes.length) {
+      prefixes = copyOf(prefixes, bindings * 2);
+      uris = copyOf(uris, bindings * 2);
+    }
+    prefixes[bindings] = prefix;
+    uris[bindings] = uri;
+    bindings++;
+  }
+
+  /** Returns the prefix bound to the namespace, empty if it is the default namespace. */
+  private String findPrefix(String uri) throws XMLStreamException {
+    if (uri.equals(defaultNamespace) || (uri.isEmpty() && defaultNamespace == null)) {
+      return "";
+    }
+    for (int i = bindings - 1; i >= 0; i--) {
+      if (uri.equals(uris[i]) && !isRebound(prefixes[i], i)) {
+        return prefixes[i];
+      }
+    }
+    throw new XMLStreamException("Unbound namespace URI '" + uri + "'");
+  }
+
+  private boolean isRebound(String prefix, int binding) {
+    for (int i = binding + 1; i < bindings; i++) {
+      if (prefix.equals(prefixes[i])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void writeAttributeUnchecked(String name, String value) throws XMLStreamException {
+    if (value == null) {
+      throw new NullPointerException("value == null");
+    }
+    ensureCapacity(1);
+    buffer[count++] = ' ';
+    writeRaw(name);
+    ensureCapacity(2);
+    buffer[count++] = '=';
+    buffer[count++] = '"';
+    writeEscaped(value, ATTRIBUTE_ESCAPES);
+    ensureCapacity(1);
+    buffer[count++] = '"';
+  }
+
+  private void writeText(String value) throws XMLStreamException {
+    writeEscaped(value, TEXT_ESCAPES);
+  }
+
+  private void writeEscaped(String value, byte[] escapes) throws XMLStreamException {
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (count + MAX_CHAR_LENGTH > buffer.length) {
+        makeRoom(MAX_CHAR_LENGTH);
+      }
+      if (c < TABLE_SIZE) {
+        switch (escapes[c]) {
+          case RAW:
+            if (c < 0x80) {
+              buffer[count++] = (byte) c;
+            } else {
+              writeTwoBytes(c);
+            }
+            break;
+          case LT:
+            writeEntity('l', 't');
+            break;
+          case AMP:
+            buffer[count++] = '&';
+            buffer[count++] = 'a';
+            buffer[count++] = 'm';
+            buffer[count++] = 'p';
+            buffer[count++] = ';';
+            break;
+          case QUOT:
+            buffer[count++] = '&';
+            buffer[count++] = 'q';
+            buffer[count++] = 'u';
+            buffer[count++] = 'o';
+            buffer[count++] = 't';
+            buffer[count++] = ';';
+            break;
+          case GT:
+            // like Woodstox, only where it could end a "]]>"
+            if (i == 0 || value.charAt(i - 1) == ']') {
+              writeEntity('g', 't');
+            } else {
+              buffer[count++] = '>';
+            }
+            break;
+          case ENTITY:
+            writeCharEntity(c);
+            break;
+          default:
+            throw new XMLStreamException(
+                c == 0
+                    ? "Invalid null character in text to output"
+                    : "Invalid white space character (0x"
+                        + Integer.toHexString(c)
+                        + ") in text to output");
+        }
+      } else if (c >= 0xFFFE) {
+        writeCharEntity(c);
+      } else {
+        i = writeNonAscii(value, i, c);
+      }
+    }
+  }
+
+  /** Writes a name or CDATA content, which are not escaped. */
+  private void writeRaw(String value) throws XMLStreamException {
+    int length = value.length();
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if (count + MAX_CHAR_LENGTH > buffer.length) {
+        makeRoom(MAX_CHAR_LENGTH);
+      }
+      if (c < 0x80) {
+        buffer[count++] = (byte) c;
+      } else {
+        i = writeNonAscii(value, i, c);
+      }
+    }
+  }
+
+  private void writeAscii(String value) throws XMLStreamException {
+    int length = value.length();
+    ensureCapacity(length);
+    for (int i = 0; i < length; i++) {
+      buffer[count++] = (byte) value.charAt(i);
+    }
+  }
+
+  /** Encodes a char from 0x80, returns the index of the last char used. */
+  private int writeNonAscii(String value, int i, char c) {
+    if (c < 0x800) {
+      writeTwoBytes(c);
+    } else if (Character.isHighSurrogate(c)
+        && i + 1 < value.length()
+        && Character.isLowSurrogate(value.charAt(i + 1))) {
+      int codePoint = Character.toCodePoint(c, value.charAt(++i));
+      buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+      buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+      buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+      buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+    } else if (Character.isSurrogate(c)) {
+      // an unpaired surrogate has no UTF-8 encoding, String.getBytes writes '?' as well
+      buffer[count++] = '?';
+    } else {
+      buffer[count++] = (byte) (0xE0 | (c >> 12));
+      buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+      buffer[count++] = (byte) (0x80 | (c & 0x3F));
+    }
+    return i;
+  }
+
+  private void writeTwoBytes(char c) {
+    buffer[count++] = (byte) (0xC0 | (c >> 6));
+    buffer[count++] = (byte) (0x80 | (c & 0x3F));
+  }
+
+  private void writeEntity(char first, char second) {
+    buffer[count++] = '&';
+    buffer[count++] = (byte) first;
+    buffer[count++] = (byte) second;
+    buffer[count++] = ';';
+  }
+
+  private void writeCharEntity(char c) {
+    buffer[count++] = '&';
+    buffer[count++] = '#';
+    buffer[count++] = 'x';
+    boolean started = false;
+    for (int shift = 12; shift >= 0; shift -= 4) {
+      int digit = (c >> shift) & 0xF;
+      if (digit != 0 || started || shift == 0) {
+        buffer[count++] = HEX[digit];
+        started = true;
+      }
+    }
+    buffer[count++] = ';';
+  }
+
+  /** Ends an open start tag before text that is never whitespace is written. */
+  private void startText() throws XMLStreamException {
+    if (depth == 0) {
+      throw new XMLStreamException(TEXT_OUTSIDE_ROOT);
+    }
+    closeStartTag();
+  }
+
+  /** Formats {@code value} in decimal, it is negated first as {@link Long#MIN_VALUE} can't be. */
+  private void writeDigits(long value) throws XMLStreamException {
+    ensureCapacity(MAX_LONG_LENGTH);
+    long negative = value;
+    if (value < 0) {
+      buffer[count++] = '-';
+    } else {
+      negative = -value;
+    }
+    int digits = 1;
+    for (long bound = -10; digits < 19 && negative <= bound; bound *= 10) {
+      digits++;
+    }
+    int index = count + digits;
+    count = index;
+    do {
+      buffer[--index] = (byte) ('0' - (negative % 10));
+      negative /= 10;
+    } while (negative != 0);
+  }
+
+  private void writeBytes(byte[] bytes) throws XMLStreamException {
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, count, bytes.length);
+    count += bytes.length;
+  }
+
+  private void ensureCapacity(int length) throws XMLStreamException {
+    if (count + length > buffer.length) {
+      makeRoom(length);
+    }
+  }
+
+  /** Makes room for at least {@code length} more bytes, writing or growing the buffer. */
+  private void makeRoom(int length) throws XMLStreamException {
+    if (output != null) {
+      writeBuffer();
+      if (length <= buffer.length) {
+        return;
+      }
+    }
+    int size = buffer.length * 2;
+    while (size < count + length) {
+      size *= 2;
+    }
+    byte[] grown = new byte[size];
+    System.arraycopy(buffer, 0, grown, 0, count);
+    buffer = grown;
+  }
+
+  private void writeBuffer() throws XMLStreamException {
+    try {
+      output.write(buffer, 0, count);
+      count = 0;
+    } catch (IOException e) {
+      throw new XMLStreamException(e);
+    }
+  }
+
+  private static boolean isWhitespace(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String[] copyOf(String[] array, int length) {
+    String[] copy = new String[length];
+    System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+    return copy;
+  }
+
+  private void checkName(String name) {
+    if (name == null) {
+      throw new NullPointerException("name == null");
+    }
+  }
+}
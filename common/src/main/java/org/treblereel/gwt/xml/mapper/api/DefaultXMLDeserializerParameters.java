@@ -20,6 +20,7 @@ import java.util.HashSet;
 import java.util.Set;
 import org.treblereel.gwt.xml.mapper.api.deser.bean.IdentityDeserializationInfo;
 import org.treblereel.gwt.xml.mapper.api.deser.bean.TypeDeserializationInfo;
+import org.treblereel.gwt.xml.mapper.api.utils.JsDateFormat;
 
 /**
  * This class includes parameters defined through properties annotations like {
@@ -32,7 +33,11 @@ import org.treblereel.gwt.xml.mapper.api.deser.bean.TypeDeserializationInfo;
 public final class DefaultXMLDeserializerParameters implements XMLDeserializerParameters {
 
   /** Constant <code>DEFAULT</code> */
-  public static final XMLDeserializerParameters DEFAULT = new DefaultXMLDeserializerParameters();
+  public static final XMLDeserializerParameters DEFAULT =
+      new DefaultXMLDeserializerParameters(true);
+
+  /** Whether the setters are disabled, which is the case for the shared {@link #DEFAULT}. */
+  private final boolean immutable;
 
   /**
    * Datatype-specific additional piece of configuration that may be used to further refine
@@ -62,6 +67,15 @@ public final class DefaultXMLDeserializerParameters implements XMLDeserializerPa
   /** Bean type informations */
   private TypeDeserializationInfo typeInfo;
 
+  /** Constructor for DefaultXMLDeserializerParameters. */
+  public DefaultXMLDeserializerParameters() {
+    this(false);
+  }
+
+  private DefaultXMLDeserializerParameters(boolean immutable) {
+    this.immutable = immutable;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -79,6 +93,7 @@ public final class DefaultXMLDeserializerParameters implements XMLDeserializerPa
    */
   @Override
   public XMLDeserializerParameters setPattern(String pattern) {
+    checkMutable();
     this.pattern = pattern;
     return this;
   }
@@ -100,6 +115,7 @@ public final class DefaultXMLDeserializerParameters implements XMLDeserializerPa
    */
   @Override
   public XMLDeserializerParameters setLocale(String locale) {
+    checkMutable();
     this.locale = locale;
     return this;
   }
@@ -121,6 +137,7 @@ public final class DefaultXMLDeserializerParameters implements XMLDeserializerPa
    */
   @Override
   public XMLDeserializerParameters addIgnoredProperty(String ignoredProperty) {
+    checkMutable();
     if (null == ignoredProperties) {
       ignoredProperties = new HashSet<>();
     }
@@ -145,6 +162,7 @@ public final class DefaultXMLDeserializerParameters implements XMLDeserializerPa
    */
   @Override
   public XMLDeserializerParameters setIgnoreUnknown(boolean ignoreUnknown) {
+    checkMutable();
     this.ignoreUnknown = ignoreUnknown;
     return this;
   }
@@ -166,6 +184,7 @@ public final class DefaultXMLDeserializerParameters implements XMLDeserializerPa
    */
   @Override
   public XMLDeserializerParameters setIdentityInfo(IdentityDeserializationInfo identityInfo) {
+    checkMutable();
     this.identityInfo = identityInfo;
     return this;
   }
@@ -187,12 +206,20 @@ public final class DefaultXMLDeserializerParameters implements XMLDeserializerPa
    */
   @Override
   public XMLDeserializerParameters setTypeInfo(TypeDeserializationInfo typeInfo) {
+    checkMutable();
     this.typeInfo = typeInfo;
     return this;
   }
 
   @Override
   public MapperContext.DateFormat dateFormat() {
-    return new JsMapperContext().dateFormat();
+    return JsDateFormat.INSTANCE;
+  }
+
+  private void checkMutable() {
+    if (immutable) {
+      throw new UnsupportedOperationException(
+          "The default parameters are shared and can't be changed, create new ones instead");
+    }
   }
 }
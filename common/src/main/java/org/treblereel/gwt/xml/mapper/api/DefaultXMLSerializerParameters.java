@@ -33,7 +33,10 @@ import org.treblereel.gwt.xml.mapper.api.ser.bean.TypeSerializationInfo;
 public final class DefaultXMLSerializerParameters implements XMLSerializerParameters {
 
   /** Constant <code>DEFAULT</code> */
-  public static final XMLSerializerParameters DEFAULT = new DefaultXMLSerializerParameters();
+  public static final XMLSerializerParameters DEFAULT = new DefaultXMLSerializerParameters(true);
+
+  /** Whether the setters are disabled, which is the case for the shared {@link #DEFAULT}. */
+  private final boolean immutable;
 
   /**
    * Datatype-specific additional piece of configuration that may be used to further refine
@@ -55,6 +58,15 @@ public final class DefaultXMLSerializerParameters implements XMLSerializerParame
   /** If true, all the properties of an object will be serialized inside the current object. */
   private boolean unwrapped = false;
 
+  /** Constructor for DefaultXMLSerializerParameters. */
+  public DefaultXMLSerializerParameters() {
+    this(false);
+  }
+
+  private DefaultXMLSerializerParameters(boolean immutable) {
+    this.immutable = immutable;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -72,6 +84,7 @@ public final class DefaultXMLSerializerParameters implements XMLSerializerParame
    */
   @Override
   public XMLSerializerParameters setPattern(String pattern) {
+    checkMutable();
     this.pattern = pattern;
     return this;
   }
@@ -93,6 +106,7 @@ public final class DefaultXMLSerializerParameters implements XMLSerializerParame
    */
   @Override
   public XMLSerializerParameters setLocale(String locale) {
+    checkMutable();
     this.locale = locale;
     return this;
   }
@@ -104,6 +118,7 @@ public final class DefaultXMLSerializerParameters implements XMLSerializerParame
 
   @Override
   public XMLSerializerParameters setTimezone(Object timezone) {
+    checkMutable();
     return null;
   }
 
@@ -124,6 +139,7 @@ public final class DefaultXMLSerializerParameters implements XMLSerializerParame
    */
   @Override
   public XMLSerializerParameters addIgnoredProperty(String ignoredProperty) {
+    checkMutable();
     if (null == ignoredProperties) {
       ignoredProperties = new HashSet<String>();
     }
@@ -148,6 +164,7 @@ public final class DefaultXMLSerializerParameters implements XMLSerializerParame
    */
   @Override
   public XMLSerializerParameters setTypeInfo(TypeSerializationInfo typeInfo) {
+    checkMutable();
     this.typeInfo = typeInfo;
     return this;
   }
@@ -169,6 +186,7 @@ public final class DefaultXMLSerializerParameters implements XMLSerializerParame
    */
   @Override
   public XMLSerializerParameters setUnwrapped(boolean unwrapped) {
+    checkMutable();
     this.unwrapped = unwrapped;
     return this;
   }
@@ -183,4 +201,11 @@ public final class DefaultXMLSerializerParameters implements XMLSerializerParame
     return new JsNumber(value)
         .toLocaleString(JsNumber.ToLocaleStringLocalesUnionType.of("us"), options);
   }
+
+  private void checkMutable() {
+    if (immutable) {
+      throw new UnsupportedOperationException(
+          "The default parameters are shared and can't be changed, create new ones instead");
+    }
+  }
 }
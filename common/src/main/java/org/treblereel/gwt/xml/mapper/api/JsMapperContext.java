@@ -29,7 +29,7 @@ public class JsMapperContext implements MapperContext {
   /** {@inheritDoc} */
   @Override
   public DateFormat dateFormat() {
-    return new JsDateFormat();
+    return JsDateFormat.INSTANCE;
   }
 
   /** {@inheritDoc} */
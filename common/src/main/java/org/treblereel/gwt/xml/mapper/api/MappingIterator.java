@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.treblereel.gwt.xml.mapper.api;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import org.treblereel.gwt.xml.mapper.api.exception.XMLDeserializationException;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
+
+/**
+ * Lazily binds the child elements of a container element one at a time, so only the current element
+ * is held in memory.
+ *
+ * <pre>{@code
+ * MappingIterator<Row> rows = mapper.readValues(in, new QName("rows"));
+ * while (rows.hasNext()) {
+ *   process(rows.next());
+ * }
+ * }</pre>
+ *
+ * @param <T> Type of the read objects
+ */
+public class MappingIterator<T> implements Iterator<T>, AutoCloseable {
+
+  private final XMLReader reader;
+  private final XMLDeserializer<T> deserializer;
+  private final XMLDeserializationContext ctx;
+  private final QName container;
+
+  private boolean started;
+  private boolean ready;
+  private boolean finished;
+
+  /**
+   * Constructor for MappingIterator.
+   *
+   * @param reader a {@link XMLReader} positioned before the container element.
+   * @param deserializer the {@link XMLDeserializer} of the child elements.
+   * @param ctx a {@link XMLDeserializationContext} object.
+   * @param container the name of the element holding the children, the root element if null. An
+   *     empty namespace matches any namespace.
+   */
+  public MappingIterator(
+      XMLReader reader,
+      XMLDeserializer<T> deserializer,
+      XMLDeserializationContext ctx,
+      QName container) {
+    this.reader = reader;
+    this.deserializer = deserializer;
+    this.ctx = ctx;
+    this.container = container;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (ready) {
+      return true;
+    }
+    if (finished) {
+      return false;
+    }
+    try {
+      if (!started) {
+        started = true;
+        if (!moveToContainer()) {
+          finished = true;
+          return false;
+        }
+      }
+      while (reader.hasNext()) {
+        reader.next();
+        int event = reader.peek();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          ready = true;
+          return true;
+        } else if (event == XMLStreamConstants.END_ELEMENT
+            || event == XMLStreamConstants.END_DOCUMENT) {
+          break;
+        }
+      }
+      finished = true;
+      return false;
+    } catch (XMLStreamException e) {
+      throw new XMLDeserializationException(e);
+    }
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    ready = false;
+    try {
+      T value = deserializer.deserialize(reader, ctx);
+      // leave the reader on the END_ELEMENT of the element that has just been read
+      while (reader.peek() != XMLStreamConstants.END_ELEMENT
+          && reader.peek() != XMLStreamConstants.END_DOCUMENT) {
+        reader.next();
+      }
+      return value;
+    } catch (XMLDeserializationException e) {
+      // already logged, we just throw it
+      throw e;
+    } catch (XMLStreamException e) {
+      throw new XMLDeserializationException(e);
+    } catch (RuntimeException e) {
+      try {
+        throw ctx.traceError(e, reader);
+      } catch (XMLStreamException xmlStreamException) {
+        throw new XMLDeserializationException(xmlStreamException);
+      }
+    }
+  }
+
+  /** Closes the underlying {@link XMLReader}. */
+  @Override
+  public void close() throws XMLStreamException {
+    finished = true;
+    ready = false;
+    reader.close();
+  }
+
+  private boolean moveToContainer() throws XMLStreamException {
+    while (true) {
+      if (reader.peek() == XMLStreamConstants.START_ELEMENT
+          && isContainer(container, reader.peekNodeName())) {
+        return true;
+      }
+      if (!reader.hasNext()) {
+        return false;
+      }
+      reader.next();
+    }
+  }
+
+  static boolean isContainer(QName container, QName name) {
+    if (container == null) {
+      return true;
+    }
+    if (!container.getLocalPart().equals(name.getLocalPart())) {
+      return false;
+    }
+    return container.getNamespaceURI() == null
+        || container.getNamespaceURI().isEmpty()
+        || container.getNamespaceURI().equals(name.getNamespaceURI());
+  }
+}
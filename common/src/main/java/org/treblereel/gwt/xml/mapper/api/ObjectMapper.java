@@ -23,4 +23,13 @@ package org.treblereel.gwt.xml.mapper.api;
  * @author Nicolas Morel
  * @version $Id: $
  */
-public interface ObjectMapper<T> extends ObjectReader<T>, ObjectWriter<T> {}
+public interface ObjectMapper<T> extends ObjectReader<T>, ObjectWriter<T> {
+
+  /** {@inheritDoc} */
+  @Override
+  ObjectMapper<T> with(XMLDeserializationContext ctx);
+
+  /** {@inheritDoc} */
+  @Override
+  ObjectMapper<T> with(XMLSerializationContext ctx);
+}
@@ -16,6 +16,12 @@
 
 package org.treblereel.gwt.xml.mapper.api;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.exception.XMLDeserializationException;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
@@ -65,10 +71,183 @@ public interface ObjectReader<T> {
   T read(String input, XMLDeserializationContext ctx)
       throws XMLDeserializationException, XMLStreamException;
 
+  /**
+   * Reads a XML input into an object. The encoding is detected from the byte order mark or the XML
+   * declaration of the document.
+   *
+   * @param input XML input to read
+   * @return the read object
+   * @throws XMLDeserializationException if an exception occurs while reading the input
+   */
+  @GwtIncompatible
+  T read(InputStream input) throws XMLDeserializationException, XMLStreamException;
+
+  /**
+   * Reads a XML input into an object. The encoding is detected from the byte order mark or the XML
+   * declaration of the document.
+   *
+   * @param input XML input to read
+   * @param ctx Context for the full reading process
+   * @return the read object
+   * @throws XMLDeserializationException if an exception occurs while reading the input
+   */
+  @GwtIncompatible
+  T read(InputStream input, XMLDeserializationContext ctx)
+      throws XMLDeserializationException, XMLStreamException;
+
+  /**
+   * Reads a XML input into an object.
+   *
+   * @param input XML input to read
+   * @return the read object
+   * @throws XMLDeserializationException if an exception occurs while reading the input
+   */
+  @GwtIncompatible
+  T read(Reader input) throws XMLDeserializationException, XMLStreamException;
+
+  /**
+   * Reads a XML input into an object.
+   *
+   * @param input XML input to read
+   * @param ctx Context for the full reading process
+   * @return the read object
+   * @throws XMLDeserializationException if an exception occurs while reading the input
+   */
+  @GwtIncompatible
+  T read(Reader input, XMLDeserializationContext ctx)
+      throws XMLDeserializationException, XMLStreamException;
+
+  /**
+   * Reads a XML input into an object.
+   *
+   * @param input buffer holding the XML input to read
+   * @param offset offset of the first byte of the document in the buffer
+   * @param length length of the document in bytes
+   * @return the read object
+   * @throws XMLDeserializationException if an exception occurs while reading the input
+   */
+  @GwtIncompatible
+  T read(byte[] input, int offset, int length)
+      throws XMLDeserializationException, XMLStreamException;
+
+  /**
+   * Reads a XML input into an object.
+   *
+   * @param input buffer holding the XML input to read
+   * @param offset offset of the first byte of the document in the buffer
+   * @param length length of the document in bytes
+   * @param ctx Context for the full reading process
+   * @return the read object
+   * @throws XMLDeserializationException if an exception occurs while reading the input
+   */
+  @GwtIncompatible
+  T read(byte[] input, int offset, int length, XMLDeserializationContext ctx)
+      throws XMLDeserializationException, XMLStreamException;
+
+  /**
+   * Reads a XML file into an object.
+   *
+   * @param path file to read
+   * @return the read object
+   * @throws XMLDeserializationException if an exception occurs while reading the input
+   * @throws IOException if the file can't be opened
+   */
+  @GwtIncompatible
+  T read(Path path) throws XMLDeserializationException, XMLStreamException, IOException;
+
+  /**
+   * Reads a XML file into an object.
+   *
+   * @param path file to read
+   * @param ctx Context for the full reading process
+   * @return the read object
+   * @throws XMLDeserializationException if an exception occurs while reading the input
+   * @throws IOException if the file can't be opened
+   */
+  @GwtIncompatible
+  T read(Path path, XMLDeserializationContext ctx)
+      throws XMLDeserializationException, XMLStreamException, IOException;
+
+  /**
+   * Reads a XML file into an object, starting at the current position of the channel.
+   *
+   * @param channel file to read
+   * @return the read object
+   * @throws XMLDeserializationException if an exception occurs while reading the input
+   * @throws IOException if the file can't be read
+   */
+  @GwtIncompatible
+  T read(FileChannel channel) throws XMLDeserializationException, XMLStreamException, IOException;
+
+  /**
+   * Reads a XML file into an object, starting at the current position of the channel.
+   *
+   * @param channel file to read
+   * @param ctx Context for the full reading process
+   * @return the read object
+   * @throws XMLDeserializationException if an exception occurs while reading the input
+   * @throws IOException if the file can't be read
+   */
+  @GwtIncompatible
+  T read(FileChannel channel, XMLDeserializationContext ctx)
+      throws XMLDeserializationException, XMLStreamException, IOException;
+
+  /**
+   * Reads the child elements of {@code container} lazily, one object per element.
+   *
+   * @param input XML input to read
+   * @param container the element holding the children, the root element if null
+   * @return a {@link MappingIterator} over the read objects
+   */
+  MappingIterator<T> readValues(String input, QName container) throws XMLStreamException;
+
+  /**
+   * Reads the child elements of {@code container} lazily, one object per element.
+   *
+   * @param input XML input to read
+   * @param container the element holding the children, the root element if null
+   * @param ctx Context for the full reading process
+   * @return a {@link MappingIterator} over the read objects
+   */
+  MappingIterator<T> readValues(String input, QName container, XMLDeserializationContext ctx)
+      throws XMLStreamException;
+
+  /**
+   * Reads the child elements of {@code container} lazily, one object per element. Only the element
+   * being bound is held in memory.
+   *
+   * @param input XML input to read
+   * @param container the element holding the children, the root element if null
+   * @return a {@link MappingIterator} over the read objects
+   */
+  @GwtIncompatible
+  MappingIterator<T> readValues(InputStream input, QName container) throws XMLStreamException;
+
+  /**
+   * Reads the child elements of {@code container} lazily, one object per element. Only the element
+   * being bound is held in memory.
+   *
+   * @param input XML input to read
+   * @param container the element holding the children, the root element if null
+   * @param ctx Context for the full reading process
+   * @return a {@link MappingIterator} over the read objects
+   */
+  @GwtIncompatible
+  MappingIterator<T> readValues(InputStream input, QName container, XMLDeserializationContext ctx)
+      throws XMLStreamException;
+
   /**
    * getDeserializer.
    *
    * @return a {@link XMLDeserializer} object.
    */
   XMLDeserializer<T> getDeserializer(XMLReader reader);
+
+  /**
+   * Returns a reader that uses the given context for every read that does not pass one explicitly.
+   *
+   * @param ctx the context to bind
+   * @return a reader bound to ctx
+   */
+  ObjectReader<T> with(XMLDeserializationContext ctx);
 }
@@ -16,6 +16,9 @@
 
 package org.treblereel.gwt.xml.mapper.api;
 
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.WritableByteChannel;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.exception.XMLSerializationException;
 
@@ -67,10 +70,89 @@ public interface ObjectWriter<T> {
   String write(T value, XMLSerializationContext ctx)
       throws XMLSerializationException, XMLStreamException;
 
+  /**
+   * Writes an object to XML, in the encoding of the default context. The output is flushed, but not
+   * closed.
+   *
+   * @param value Object to write
+   * @param output the output to write to
+   * @throws XMLSerializationException if an exception occurs while writing the output
+   */
+  @GwtIncompatible
+  void write(T value, OutputStream output) throws XMLSerializationException, XMLStreamException;
+
+  /**
+   * Writes an object to XML, in the encoding of the given context. The output is flushed, but not
+   * closed.
+   *
+   * @param value Object to write
+   * @param output the output to write to
+   * @param ctx Context for the full writing process
+   * @throws XMLSerializationException if an exception occurs while writing the output
+   */
+  @GwtIncompatible
+  void write(T value, OutputStream output, XMLSerializationContext ctx)
+      throws XMLSerializationException, XMLStreamException;
+
+  /**
+   * Writes an object to XML. The output is flushed, but not closed.
+   *
+   * @param value Object to write
+   * @param output the output to write to
+   * @throws XMLSerializationException if an exception occurs while writing the output
+   */
+  @GwtIncompatible
+  void write(T value, Writer output) throws XMLSerializationException, XMLStreamException;
+
+  /**
+   * Writes an object to XML. The output is flushed, but not closed.
+   *
+   * @param value Object to write
+   * @param output the output to write to
+   * @param ctx Context for the full writing process
+   * @throws XMLSerializationException if an exception occurs while writing the output
+   */
+  @GwtIncompatible
+  void write(T value, Writer output, XMLSerializationContext ctx)
+      throws XMLSerializationException, XMLStreamException;
+
+  /**
+   * Writes an object to XML, in the encoding of the default context, at the current position of the
+   * channel. The channel is not closed.
+   *
+   * @param value Object to write
+   * @param channel the channel to write to
+   * @throws XMLSerializationException if an exception occurs while writing the output
+   */
+  @GwtIncompatible
+  void write(T value, WritableByteChannel channel)
+      throws XMLSerializationException, XMLStreamException;
+
+  /**
+   * Writes an object to XML, in the encoding of the given context, at the current position of the
+   * channel. The channel is not closed.
+   *
+   * @param value Object to write
+   * @param channel the channel to write to
+   * @param ctx Context for the full writing process
+   * @throws XMLSerializationException if an exception occurs while writing the output
+   */
+  @GwtIncompatible
+  void write(T value, WritableByteChannel channel, XMLSerializationContext ctx)
+      throws XMLSerializationException, XMLStreamException;
+
   /**
    * getSerializer.
    *
    * @return a {@link XMLSerializer} object.
    */
   XMLSerializer<T> getSerializer();
+
+  /**
+   * Returns a writer that uses the given context for every write that does not pass one explicitly.
+   *
+   * @param ctx the context to bind
+   * @return a writer bound to ctx
+   */
+  ObjectWriter<T> with(XMLSerializationContext ctx);
 }
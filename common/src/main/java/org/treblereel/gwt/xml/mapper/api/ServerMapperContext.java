@@ -30,7 +30,7 @@ public class ServerMapperContext extends JsMapperContext {
   @GwtIncompatible
   @Override
   public MapperContext.DateFormat dateFormat() {
-    return new DefaultDateFormat();
+    return DefaultDateFormat.INSTANCE;
   }
 
   /** {@inheritDoc} */
@@ -35,7 +35,10 @@ public final class ServerMapperXMLDeserializerParameters implements XMLDeseriali
 
   /** Constant <code>DEFAULT</code> */
   public static final XMLDeserializerParameters DEFAULT =
-      new ServerMapperXMLDeserializerParameters();
+      new ServerMapperXMLDeserializerParameters(true);
+
+  /** Whether the setters are disabled, which is the case for the shared {@link #DEFAULT}. */
+  private final boolean immutable;
 
   /**
    * Datatype-specific additional piece of configuration that may be used to further refine
@@ -65,6 +68,15 @@ public final class ServerMapperXMLDeserializerParameters implements XMLDeseriali
   /** Bean type informations */
   private TypeDeserializationInfo typeInfo;
 
+  /** Constructor for ServerMapperXMLDeserializerParameters. */
+  public ServerMapperXMLDeserializerParameters() {
+    this(false);
+  }
+
+  private ServerMapperXMLDeserializerParameters(boolean immutable) {
+    this.immutable = immutable;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -82,6 +94,7 @@ public final class ServerMapperXMLDeserializerParameters implements XMLDeseriali
    */
   @Override
   public XMLDeserializerParameters setPattern(String pattern) {
+    checkMutable();
     this.pattern = pattern;
     return this;
   }
@@ -103,6 +116,7 @@ public final class ServerMapperXMLDeserializerParameters implements XMLDeseriali
    */
   @Override
   public XMLDeserializerParameters setLocale(String locale) {
+    checkMutable();
     this.locale = locale;
     return this;
   }
@@ -124,6 +138,7 @@ public final class ServerMapperXMLDeserializerParameters implements XMLDeseriali
    */
   @Override
   public XMLDeserializerParameters addIgnoredProperty(String ignoredProperty) {
+    checkMutable();
     if (null == ignoredProperties) {
       ignoredProperties = new HashSet<String>();
     }
@@ -148,6 +163,7 @@ public final class ServerMapperXMLDeserializerParameters implements XMLDeseriali
    */
   @Override
   public XMLDeserializerParameters setIgnoreUnknown(boolean ignoreUnknown) {
+    checkMutable();
     this.ignoreUnknown = ignoreUnknown;
     return this;
   }
@@ -169,6 +185,7 @@ public final class ServerMapperXMLDeserializerParameters implements XMLDeseriali
    */
   @Override
   public XMLDeserializerParameters setIdentityInfo(IdentityDeserializationInfo identityInfo) {
+    checkMutable();
     this.identityInfo = identityInfo;
     return this;
   }
@@ -190,12 +207,20 @@ public final class ServerMapperXMLDeserializerParameters implements XMLDeseriali
    */
   @Override
   public XMLDeserializerParameters setTypeInfo(TypeDeserializationInfo typeInfo) {
+    checkMutable();
     this.typeInfo = typeInfo;
     return this;
   }
 
   @Override
   public MapperContext.DateFormat dateFormat() {
-    return new DefaultDateFormat();
+    return DefaultDateFormat.INSTANCE;
+  }
+
+  private void checkMutable() {
+    if (immutable) {
+      throw new UnsupportedOperationException(
+          "The default parameters are shared and can't be changed, create new ones instead");
+    }
   }
 }
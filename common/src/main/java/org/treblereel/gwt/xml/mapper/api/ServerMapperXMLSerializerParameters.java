@@ -33,7 +33,11 @@ import org.treblereel.gwt.xml.mapper.api.ser.bean.TypeSerializationInfo;
 public final class ServerMapperXMLSerializerParameters implements XMLSerializerParameters {
 
   /** Constant <code>DEFAULT</code> */
-  public static final XMLSerializerParameters DEFAULT = new ServerMapperXMLSerializerParameters();
+  public static final XMLSerializerParameters DEFAULT =
+      new ServerMapperXMLSerializerParameters(true);
+
+  /** Whether the setters are disabled, which is the case for the shared {@link #DEFAULT}. */
+  private final boolean immutable;
 
   /**
    * Datatype-specific additional piece of configuration that may be used to further refine
@@ -58,6 +62,15 @@ public final class ServerMapperXMLSerializerParameters implements XMLSerializerP
   /** If true, all the properties of an object will be serialized inside the current object. */
   private boolean unwrapped = false;
 
+  /** Constructor for ServerMapperXMLSerializerParameters. */
+  public ServerMapperXMLSerializerParameters() {
+    this(false);
+  }
+
+  private ServerMapperXMLSerializerParameters(boolean immutable) {
+    this.immutable = immutable;
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -75,6 +88,7 @@ public final class ServerMapperXMLSerializerParameters implements XMLSerializerP
    */
   @Override
   public XMLSerializerParameters setPattern(String pattern) {
+    checkMutable();
     this.pattern = pattern;
     return this;
   }
@@ -96,6 +110,7 @@ public final class ServerMapperXMLSerializerParameters implements XMLSerializerP
    */
   @Override
   public XMLSerializerParameters setLocale(String locale) {
+    checkMutable();
     this.locale = locale;
     return this;
   }
@@ -117,6 +132,7 @@ public final class ServerMapperXMLSerializerParameters implements XMLSerializerP
    */
   @Override
   public XMLSerializerParameters setTimezone(Object timezone) {
+    checkMutable();
     this.timezone = (ZoneId) timezone;
     return this;
   }
@@ -138,6 +154,7 @@ public final class ServerMapperXMLSerializerParameters implements XMLSerializerP
    */
   @Override
   public XMLSerializerParameters addIgnoredProperty(String ignoredProperty) {
+    checkMutable();
     if (null == ignoredProperties) {
       ignoredProperties = new HashSet<String>();
     }
@@ -162,6 +179,7 @@ public final class ServerMapperXMLSerializerParameters implements XMLSerializerP
    */
   @Override
   public XMLSerializerParameters setTypeInfo(TypeSerializationInfo typeInfo) {
+    checkMutable();
     this.typeInfo = typeInfo;
     return this;
   }
@@ -183,6 +201,7 @@ public final class ServerMapperXMLSerializerParameters implements XMLSerializerP
    */
   @Override
   public XMLSerializerParameters setUnwrapped(boolean unwrapped) {
+    checkMutable();
     this.unwrapped = unwrapped;
     return this;
   }
@@ -191,4 +210,11 @@ public final class ServerMapperXMLSerializerParameters implements XMLSerializerP
   public String doubleValue(Double value) {
     return value.toString();
   }
+
+  private void checkMutable() {
+    if (immutable) {
+      throw new UnsupportedOperationException(
+          "The default parameters are shared and can't be changed, create new ones instead");
+    }
+  }
 }
@@ -15,6 +15,11 @@
  */
 package org.treblereel.gwt.xml.mapper.api;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.exception.XMLDeserializationException;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLIterator;
@@ -73,6 +78,35 @@ public interface XMLDeserializationContext extends XMLMappingContext {
    */
   XMLReader newXMLReader(String input) throws XMLStreamException;
 
+  /**
+   * newXMLReader.
+   *
+   * @param input a {@link InputStream} object, its encoding is detected from the document.
+   * @return a {@link XMLReader} object.
+   */
+  @GwtIncompatible
+  XMLReader newXMLReader(InputStream input) throws XMLStreamException;
+
+  /**
+   * newXMLReader.
+   *
+   * @param input a {@link Reader} object.
+   * @return a {@link XMLReader} object.
+   */
+  @GwtIncompatible
+  XMLReader newXMLReader(Reader input) throws XMLStreamException;
+
+  /**
+   * newXMLReader.
+   *
+   * @param input a {@link FileChannel} object, read from its current position.
+   * @return a {@link XMLReader} object.
+   */
+  @GwtIncompatible
+  default XMLReader newXMLReader(FileChannel input) throws XMLStreamException, IOException {
+    return newXMLReader(Channels.newInputStream(input));
+  }
+
   XMLIterator iterator();
 
   /**
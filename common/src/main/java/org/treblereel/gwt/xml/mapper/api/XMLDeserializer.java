@@ -32,10 +32,11 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  */
 public abstract class XMLDeserializer<T> {
 
-  private final QName xsiType = new QName("http://www.w3.org/2001/XMLSchema-instance", "type");
+  private static final QName XSI_TYPE =
+      new QName("http://www.w3.org/2001/XMLSchema-instance", "type");
   protected Function<XMLReader, String> xsiTypeChooser = this::getXsiType;
   protected Function<XMLReader, String> xsiTagChooser = this::getTag;
-  protected Function<XMLReader, XMLReader> nextTag = this::nextTag;
+  protected Function<XMLReader, XMLReader> nextTag = XMLDeserializer::nextTag;
 
   private Inheritance type = Inheritance.NONE;
   protected boolean isWrapCollections = false;
@@ -95,26 +96,52 @@ public abstract class XMLDeserializer<T> {
       throws XMLStreamException;
 
   protected String getXsiType(XMLReader reader) {
+    return xsiType(reader);
+  }
+
+  protected String getTag(XMLReader reader) {
+    return xsiTag(reader);
+  }
+
+  /**
+   * Returns the value of the xsi:type attribute of the current element, or an empty string.
+   *
+   * @param reader a {@link XMLReader} object.
+   * @return a {@link String} object.
+   */
+  public static String xsiType(XMLReader reader) {
     for (int i = 0; i < reader.getAttributeCount(); i++) {
-      if (reader.getAttributeName(i).equals(xsiType)) {
+      if (reader.getAttributeName(i).equals(XSI_TYPE)) {
         return reader.getAttributeValue(i);
       }
     }
     return "";
   }
 
-  private XMLReader nextTag(XMLReader xmlReader) {
+  /**
+   * Returns the local name of the current element.
+   *
+   * @param reader a {@link XMLReader} object.
+   * @return a {@link String} object.
+   */
+  public static String xsiTag(XMLReader reader) {
     try {
-      xmlReader.next();
-      return xmlReader;
+      return reader.peekNodeName().getLocalPart();
     } catch (XMLStreamException e) {
       throw new XMLDeserializationException(e);
     }
   }
 
-  protected String getTag(XMLReader reader) {
+  /**
+   * Moves the reader to the next event.
+   *
+   * @param xmlReader a {@link XMLReader} object.
+   * @return the same {@link XMLReader}
+   */
+  public static XMLReader nextTag(XMLReader xmlReader) {
     try {
-      return reader.peekNodeName().getLocalPart();
+      xmlReader.next();
+      return xmlReader;
     } catch (XMLStreamException e) {
       throw new XMLDeserializationException(e);
     }
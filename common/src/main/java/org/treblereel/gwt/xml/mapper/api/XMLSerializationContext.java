@@ -15,6 +15,8 @@
  */
 package org.treblereel.gwt.xml.mapper.api;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.exception.XMLSerializationException;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
@@ -75,6 +77,25 @@ public interface XMLSerializationContext extends XMLMappingContext {
    */
   XMLWriter newXMLWriter() throws XMLStreamException;
 
+  /**
+   * newXMLWriter.
+   *
+   * @param output a {@link OutputStream} object, written in the encoding of this context. It is not
+   *     closed when the writer is closed.
+   * @return a {@link XMLWriter} object.
+   */
+  @GwtIncompatible
+  XMLWriter newXMLWriter(OutputStream output) throws XMLStreamException;
+
+  /**
+   * newXMLWriter.
+   *
+   * @param output a {@link Writer} object. It is not closed when the writer is closed.
+   * @return a {@link XMLWriter} object.
+   */
+  @GwtIncompatible
+  XMLWriter newXMLWriter(Writer output) throws XMLStreamException;
+
   /**
    * traceError.
    *
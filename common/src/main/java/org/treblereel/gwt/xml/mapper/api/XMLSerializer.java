@@ -17,12 +17,14 @@
 package org.treblereel.gwt.xml.mapper.api;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.exception.XMLSerializationException;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLName;
 import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 import org.treblereel.gwt.xml.mapper.api.utils.Pair;
 
@@ -30,6 +32,10 @@ import org.treblereel.gwt.xml.mapper.api.utils.Pair;
  * Base class for all the serializer. It handles null values and exceptions. The rest is delegated
  * to implementations.
  *
+ * <p>The name, namespace and parent of a serializer are set when it is created, before it is used
+ * for the first time. Serializing a value doesn't change them, so the same serializer can write
+ * from several threads at once.
+ *
  * @author Nicolas Morel
  * @version $Id: $Id
  */
@@ -37,6 +43,9 @@ public abstract class XMLSerializer<T> {
 
   protected String propertyName;
 
+  /** {@link #propertyName} with its tags pre-encoded, set together with it */
+  protected XMLName xmlName;
+
   protected PropertyType type = PropertyType.COMMON;
 
   protected boolean isAttribute = false;
@@ -54,8 +63,13 @@ public abstract class XMLSerializer<T> {
   protected Map<String, String> namespaces = new LinkedHashMap<>();
 
   public XMLSerializer<T> setPropertyName(String propertyName) {
+    return setPropertyName(XMLName.of(propertyName));
+  }
+
+  public XMLSerializer<T> setPropertyName(XMLName name) {
     if (!inheritanceType.equals(Inheritance.TAG)) {
-      this.propertyName = propertyName;
+      this.propertyName = name != null ? name.getName() : null;
+      this.xmlName = name;
     }
     return this;
   }
@@ -291,9 +305,10 @@ public abstract class XMLSerializer<T> {
 
   public XMLSerializer<T> setType(String value, Inheritance type) {
     if (Inheritance.XSI.equals(type)) {
-      xsiType.add(value);
+      xsiType = Collections.singletonList(value);
     } else if (Inheritance.TAG.equals(type)) {
       propertyName = value;
+      xmlName = XMLName.of(value);
     }
     inheritanceType = type;
     return this;
@@ -323,12 +338,19 @@ public abstract class XMLSerializer<T> {
     if (namespace != null) {
       String prefix = getPrefix(namespace);
       if (prefix != null) {
-        writer.beginObject(prefix, namespace, propertyName);
+        writer.beginObject(prefix, namespace, xmlName);
       } else {
-        writer.beginObject(namespace, propertyName);
+        writer.beginObject(namespace, xmlName);
       }
     } else {
-      writer.beginObject(propertyName);
+      writer.beginObject(xmlName);
+    }
+  }
+
+  /** Ends the element begun by {@link #beginObject(XMLWriter)}. */
+  protected void endObject(XMLWriter writer) throws XMLStreamException {
+    if (!type.equals(PropertyType.XML_VALUE)) {
+      writer.endObject();
     }
   }
 
@@ -340,9 +362,9 @@ public abstract class XMLSerializer<T> {
     if (namespace != null) {
       String prefix = getPrefix(namespace);
       if (prefix == null) {
-        writer.beginObject(namespace, propertyName);
+        writer.beginObject(namespace, xmlName);
       } else {
-        writer.beginObject(prefix, namespace, propertyName);
+        writer.beginObject(prefix, namespace, xmlName);
       }
       writer.writeCharacters(value);
       writer.endObject();
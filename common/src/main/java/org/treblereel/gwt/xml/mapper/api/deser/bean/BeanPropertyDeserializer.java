@@ -53,6 +53,16 @@ public abstract class BeanPropertyDeserializer<T, V>
     }
   }
 
+  /**
+   * Returns true if the values of this property are written as repeated sibling elements. The bean
+   * deserializer then collects them while it reads the bean and sets the value once at its end.
+   *
+   * @return true if the property accumulates its values
+   */
+  protected boolean isAccumulating() {
+    return false;
+  }
+
   /**
    * setValue
    *
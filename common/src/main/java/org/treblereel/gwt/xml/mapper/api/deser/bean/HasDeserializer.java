@@ -27,7 +27,7 @@ import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
  */
 public abstract class HasDeserializer<V, S extends XMLDeserializer<V>> {
 
-  private S deserializer;
+  private volatile S deserializer;
 
   /**
    * Getter for the field <code>deserializer</code>.
@@ -35,10 +35,12 @@ public abstract class HasDeserializer<V, S extends XMLDeserializer<V>> {
    * @return a S object.
    */
   public S getDeserializer(XMLReader reader) {
-    if (null == deserializer) {
-      deserializer = (S) newDeserializer(reader);
+    S result = deserializer;
+    if (null == result) {
+      result = (S) newDeserializer(reader);
+      deserializer = result;
     }
-    return deserializer;
+    return result;
   }
 
   /**
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.treblereel.gwt.xml.mapper.api.stream;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An element name together with its start and end tags encoded as UTF-8, so a writer that encodes
+ * UTF-8 itself can copy them instead of encoding the name each time it is written. The generated
+ * serializers hold one per property.
+ */
+public final class XMLName {
+
+  private final String name;
+  private final String prefix;
+  private final byte[] startTag;
+  private final byte[] endTag;
+
+  /** The last prefixed variant, prefixes of an element rarely change between writes. */
+  private XMLName prefixed;
+
+  private XMLName(String prefix, String name) {
+    this.prefix = prefix;
+    this.name = name;
+    this.startTag = ("<" + name).getBytes(StandardCharsets.UTF_8);
+    this.endTag = ("</" + name + ">").getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Returns the token of {@code name}.
+   *
+   * @param name the element name, may be null
+   * @return the token, or null if {@code name} is null
+   */
+  public static XMLName of(String name) {
+    return name == null ? null : new XMLName(null, name);
+  }
+
+  /**
+   * Returns the token of this name qualified with {@code prefix}.
+   *
+   * @param prefix the namespace prefix, this token is returned if it is empty
+   * @return the token of {@code prefix:name}
+   */
+  public XMLName withPrefix(String prefix) {
+    if (prefix == null || prefix.isEmpty()) {
+      return this;
+    }
+    XMLName result = prefixed;
+    if (result == null || !result.prefix.equals(prefix)) {
+      result = new XMLName(prefix, prefix + ':' + name);
+      prefixed = result;
+    }
+    return result;
+  }
+
+  /**
+   * Getter for the field <code>name</code>.
+   *
+   * @return the name, qualified if the token has a prefix
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns {@code <name} encoded as UTF-8. The array is shared and must not be modified.
+   *
+   * @return the start tag without its closing bracket
+   */
+  public byte[] getStartTag() {
+    return startTag;
+  }
+
+  /**
+   * Returns {@code </name>} encoded as UTF-8. The array is shared and must not be modified.
+   *
+   * @return the end tag
+   */
+  public byte[] getEndTag() {
+    return endTag;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
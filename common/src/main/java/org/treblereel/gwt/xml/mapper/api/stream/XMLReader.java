@@ -17,8 +17,10 @@
 package org.treblereel.gwt.xml.mapper.api.stream;
 
 import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
+import org.treblereel.gwt.xml.mapper.api.utils.Base64Utils;
 
 /**
  * XMLReader interface.
@@ -60,6 +62,26 @@ public interface XMLReader {
    */
   String nextString() throws XMLStreamException;
 
+  /**
+   * Decodes the base 64 value of the current element, consuming it. A reader with typed access to
+   * the parser decodes the text a chunk at a time and leaves the reader on the {@link
+   * XMLStreamConstants#END_ELEMENT}, the others decode {@link #nextString()}.
+   *
+   * @return a byte array, empty if the element has no value.
+   */
+  default byte[] nextBinary() throws XMLStreamException {
+    String value = nextString();
+    return value != null ? Base64Utils.fromBase64(value) : new byte[0];
+  }
+
+  /**
+   * Moves to the value of the current element, if it isn't there yet, without consuming it.
+   *
+   * @return true if the element has no value, the typed {@code next} methods then return their
+   *     default value.
+   */
+  boolean nextIsNull() throws XMLStreamException;
+
   /**
    * Returns the {@link boolean} value of the next token, consuming it.
    *
@@ -80,6 +102,16 @@ public interface XMLReader {
    */
   double nextDouble() throws XMLStreamException;
 
+  /**
+   * Returns the {@link float} value of the next token, consuming it. If the next token is a string,
+   * this method will attempt to parse it as a float using {@link Float#parseFloat(String)}.
+   *
+   * @return a float.
+   * @throws IllegalStateException if the next token is not a literal value.
+   * @throws NumberFormatException if the next literal value cannot be parsed as a float.
+   */
+  float nextFloat() throws XMLStreamException;
+
   /**
    * Returns the {@link long} value of the next token, consuming it. If the next token is a string,
    * this method will attempt to parse it as a long. If the next token's numeric value cannot be
@@ -114,6 +146,13 @@ public interface XMLReader {
    */
   void skipValue() throws XMLStreamException;
 
+  /**
+   * Skips the whole subtree of the element the reader points to. The reader must be on a {@link
+   * XMLStreamConstants#START_ELEMENT}, after the call it is on the matching {@link
+   * XMLStreamConstants#END_ELEMENT}.
+   */
+  void skipElement() throws XMLStreamException;
+
   /**
    * Reads the next value recursively and returns it as a String. If it is an object or array, all
    * nested elements are read.
@@ -137,7 +176,27 @@ public interface XMLReader {
 
   void next() throws XMLStreamException;
 
-  String getInput() throws XMLStreamException;
+  /**
+   * Returns the location of the current event, for error reporting.
+   *
+   * @return a {@link Location} object, or null if the parser doesn't track locations.
+   */
+  Location getLocation();
+
+  /**
+   * Returns the local names of the elements from the root to the current one, like {@code
+   * /root/child}, for error reporting.
+   *
+   * @return a {@link String} object.
+   */
+  String getPath();
+
+  /**
+   * Returns the input around the current event, for error reporting.
+   *
+   * @return a {@link String} object, or null if excerpts are not enabled.
+   */
+  String getExcerpt();
 
   int getAttributeCount();
 
@@ -17,6 +17,7 @@
 package org.treblereel.gwt.xml.mapper.api.stream;
 
 import javax.xml.stream.XMLStreamException;
+import org.treblereel.gwt.xml.mapper.api.utils.Base64Utils;
 
 /**
  * XMLWriter interface.
@@ -68,6 +69,26 @@ public interface XMLWriter {
 
   XMLWriter beginObject(String prefix, String namespace, String name) throws XMLStreamException;
 
+  /**
+   * Begins encoding a new object named by a pre-encoded {@link XMLName}. A writer that encodes
+   * UTF-8 itself copies its tags, the others write {@link XMLName#getName()}.
+   *
+   * @param name the name of the object
+   * @return this writer.
+   */
+  default XMLWriter beginObject(XMLName name) throws XMLStreamException {
+    return beginObject(name.getName());
+  }
+
+  default XMLWriter beginObject(String namespace, XMLName name) throws XMLStreamException {
+    return beginObject(namespace, name.getName());
+  }
+
+  default XMLWriter beginObject(String prefix, String namespace, XMLName name)
+      throws XMLStreamException {
+    return beginObject(prefix, namespace, name.getName());
+  }
+
   /**
    * Ends encoding the current object.
    *
@@ -91,6 +112,16 @@ public interface XMLWriter {
    */
   XMLWriter unescapeName(String name);
 
+  /**
+   * Encodes the property name without escaping it, see {@link #beginObject(XMLName)}.
+   *
+   * @param name the name of the forthcoming value. May not be null.
+   * @return this writer.
+   */
+  default XMLWriter unescapeName(XMLName name) {
+    return unescapeName(name.getName());
+  }
+
   /**
    * Encodes {@code value}.
    *
@@ -174,6 +205,69 @@ public interface XMLWriter {
 
   void writeCharacters(String value) throws XMLStreamException;
 
+  /**
+   * Writes {@code value} as text of the current element. A writer that encodes the output itself
+   * formats the digits into it without creating a String.
+   *
+   * @param value an int.
+   */
+  default void writeInt(int value) throws XMLStreamException {
+    writeCharacters(Integer.toString(value));
+  }
+
+  /**
+   * Writes {@code value} as text of the current element, see {@link #writeInt(int)}.
+   *
+   * @param value a long.
+   */
+  default void writeLong(long value) throws XMLStreamException {
+    writeCharacters(Long.toString(value));
+  }
+
+  /**
+   * Writes {@code value} as text of the current element, formatted like {@link Float#toString()}.
+   *
+   * @param value a float.
+   */
+  default void writeFloat(float value) throws XMLStreamException {
+    writeCharacters(Float.toString(value));
+  }
+
+  /**
+   * Writes {@code value} as text of the current element, formatted like {@link Double#toString()}.
+   *
+   * @param value a double.
+   */
+  default void writeDouble(double value) throws XMLStreamException {
+    writeCharacters(Double.toString(value));
+  }
+
+  /**
+   * Writes {@code value} as text of the current element.
+   *
+   * @param value a boolean.
+   */
+  default void writeBoolean(boolean value) throws XMLStreamException {
+    writeCharacters(value ? "true" : "false");
+  }
+
+  /**
+   * Writes {@code length} bytes of {@code value} from {@code offset} as base 64 text of the current
+   * element. The bytes are encoded a chunk at a time, so the whole text is never held in memory. A
+   * writer whose {@link #writeCharacters(String)} does not append to the text must override it.
+   *
+   * @param value a byte array.
+   * @param offset the index of the first byte to write.
+   * @param length the number of bytes to write.
+   */
+  default void writeBinary(byte[] value, int offset, int length) throws XMLStreamException {
+    // a multiple of 3 bytes, so only the last chunk is padded
+    int chunk = 3 * 1024;
+    for (int end = offset + length; offset < end; offset += chunk) {
+      writeCharacters(Base64Utils.toBase64(value, offset, Math.min(chunk, end - offset)));
+    }
+  }
+
   void writeAttribute(String propertyName, String value) throws XMLStreamException;
 
   void writeSchemaLocation(String s, String schemaLocation) throws XMLStreamException;
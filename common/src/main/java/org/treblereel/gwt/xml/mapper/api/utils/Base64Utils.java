@@ -145,8 +145,20 @@ public class Base64Utils {
     if (data == null) {
       return null;
     }
+    return toBase64(data, 0, data.length);
+  }
 
-    int len = data.length;
+  /**
+   * Converts {@code len} bytes of {@code data} from {@code offset} into a base 64 encoded string,
+   * see {@link #toBase64(byte[])}. Only the end of the range is padded, so consecutive ranges whose
+   * lengths are multiples of 3 encode to the same text as the whole array.
+   *
+   * @param data a byte array
+   * @param offset the index of the first byte to encode
+   * @param len the number of bytes to encode
+   * @return a String
+   */
+  public static String toBase64(byte[] data, int offset, int len) {
     if (len == 0) {
       return "";
     }
@@ -154,7 +166,7 @@ public class Base64Utils {
     int olen = 4 * ((len + 2) / 3);
     char[] chars = new char[olen];
 
-    int iidx = 0;
+    int iidx = offset;
     int oidx = 0;
     int charsLeft = len;
     while (charsLeft > 0) {
@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.treblereel.gwt.xml.mapper.api.utils;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.treblereel.gwt.xml.mapper.api.GwtIncompatible;
+
+/**
+ * A size-bounded cache that is safe to share between threads. Lookups of cached values never take a
+ * lock; when an insertion grows the cache past its bound, arbitrary other entries are evicted.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the cached values
+ */
+@GwtIncompatible
+final class BoundedCache<K, V> {
+
+  private final ConcurrentHashMap<K, V> values = new ConcurrentHashMap<>();
+
+  private final int maxSize;
+
+  private final Function<K, V> factory;
+
+  BoundedCache(int maxSize, Function<K, V> factory) {
+    this.maxSize = maxSize;
+    this.factory = factory;
+  }
+
+  /**
+   * Returns the value cached for the key, creating it on a miss. Two threads missing on the same
+   * key may both create a value, only one of them is kept.
+   *
+   * @param key the key
+   * @return the cached value
+   */
+  V get(K key) {
+    V value = values.get(key);
+    if (null == value) {
+      value = factory.apply(key);
+      V previous = values.putIfAbsent(key, value);
+      if (null != previous) {
+        return previous;
+      }
+      if (values.size() > maxSize) {
+        evict(key);
+      }
+    }
+    return value;
+  }
+
+  private void evict(K keep) {
+    Iterator<K> keys = values.keySet().iterator();
+    while (values.size() > maxSize && keys.hasNext()) {
+      if (!keep.equals(keys.next())) {
+        keys.remove();
+      }
+    }
+  }
+}
@@ -24,8 +24,7 @@ import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Objects;
 import org.treblereel.gwt.xml.mapper.api.GwtIncompatible;
 import org.treblereel.gwt.xml.mapper.api.MapperContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
@@ -61,7 +60,23 @@ public final class DefaultDateFormat implements MapperContext.DateFormat {
   /** UTC TimeZone */
   public static final ZoneId UTC_TIMEZONE = ZoneOffset.UTC;
 
-  private static final Map<String, DateParser> CACHE_PARSERS = new HashMap<String, DateParser>();
+  /** Shared instance, the format holds no state of its own. */
+  public static final DefaultDateFormat INSTANCE = new DefaultDateFormat();
+
+  /** Upper bound of each cache, audit feeds rarely use more than a handful of patterns. */
+  private static final int MAX_CACHED_PATTERNS = 256;
+
+  private static final BoundedCache<Key, DateTimeFormatter> CACHE_FORMATTERS =
+      new BoundedCache<>(
+          MAX_CACHED_PATTERNS,
+          key ->
+              (null == key.pattern
+                      ? DefaultDateFormat.DATE_FORMAT_STR_ISO8601_Z
+                      : DateTimeFormatter.ofPattern(key.pattern))
+                  .withZone(key.zone));
+
+  private static final BoundedCache<Key, DateParser> CACHE_PARSERS =
+      new BoundedCache<>(MAX_CACHED_PATTERNS, DefaultDateFormat::newParser);
 
   /** Constructor for DefaultDateFormat. */
   public DefaultDateFormat() {}
@@ -72,6 +87,10 @@ public final class DefaultDateFormat implements MapperContext.DateFormat {
    * <p>Format a date using {@link #DATE_FORMAT_STR_ISO8601} and {@link #UTC_TIMEZONE}
    */
   public String format(Date date) {
+    String formatted = Iso8601Utils.format(date.getTime());
+    if (null != formatted) {
+      return formatted;
+    }
     return format(
         DefaultDateFormat.DATE_FORMAT_STR_ISO8601_Z, DefaultDateFormat.UTC_TIMEZONE, date);
   }
@@ -83,11 +102,11 @@ public final class DefaultDateFormat implements MapperContext.DateFormat {
    * #DATE_FORMAT_STR_ISO8601} and {@link #UTC_TIMEZONE}
    */
   public String format(XMLSerializerParameters params, Date date) {
-    DateTimeFormatter format;
-    if (null == params.getPattern()) {
-      format = DefaultDateFormat.DATE_FORMAT_STR_ISO8601_Z;
-    } else {
-      format = DateTimeFormatter.ofPattern(params.getPattern());
+    if (null == params.getPattern() && null == params.getTimezone()) {
+      String formatted = Iso8601Utils.format(date.getTime());
+      if (null != formatted) {
+        return formatted;
+      }
     }
 
     ZoneId timeZone;
@@ -97,7 +116,8 @@ public final class DefaultDateFormat implements MapperContext.DateFormat {
       timeZone = (ZoneId) params.getTimezone();
     }
 
-    return format(format, timeZone, date);
+    return format(
+        CACHE_FORMATTERS.get(new Key(params.getPattern(), timeZone, false, null)), timeZone, date);
   }
 
   /**
@@ -108,36 +128,38 @@ public final class DefaultDateFormat implements MapperContext.DateFormat {
    */
   public Date parse(boolean useBrowserTimezone, String pattern, Boolean hasTz, String date) {
     if (null == pattern) {
+      long millis = Iso8601Utils.parse(date);
+      if (millis != Iso8601Utils.INVALID) {
+        return new Date(millis);
+      }
       try {
         return parse(DefaultDateFormat.DATE_FORMAT_STR_ISO8601, date);
       } catch (DateTimeParseException e) {
         return parse(DefaultDateFormat.DATE_FORMAT_STR_ISO8601_Z, date);
       }
     } else {
-      String patternCacheKey = pattern + useBrowserTimezone;
-      DateParser parser = CACHE_PARSERS.get(patternCacheKey);
-      if (null == parser) {
-        boolean patternHasTz =
-            useBrowserTimezone || (hasTz == null ? hasTz(pattern) : hasTz.booleanValue());
-        if (patternHasTz) {
-          parser = new DateParser(pattern);
-        } else {
-          // the pattern does not have a timezone, we use the UTC timezone as reference
-          parser = new DateParserNoTz(pattern);
-        }
-        CACHE_PARSERS.put(patternCacheKey, parser);
-      }
-      return parser.parse(date);
+      return CACHE_PARSERS.get(new Key(pattern, null, useBrowserTimezone, hasTz)).parse(date);
     }
   }
 
+  private static DateParser newParser(Key key) {
+    boolean patternHasTz =
+        key.useBrowserTimezone
+            || (key.hasTz == null ? hasTz(key.pattern) : key.hasTz.booleanValue());
+    if (patternHasTz) {
+      return new DateParser(key.pattern);
+    }
+    // the pattern does not have a timezone, we use the UTC timezone as reference
+    return new DateParserNoTz(key.pattern);
+  }
+
   /**
    * Find if a pattern contains informations about the timezone.
    *
    * @param pattern pattern
    * @return true if the pattern contains informations about the timezone, false otherwise
    */
-  private boolean hasTz(String pattern) {
+  private static boolean hasTz(String pattern) {
     boolean inQuote = false;
 
     for (int i = 0; i < pattern.length(); i++) {
@@ -243,8 +265,44 @@ public final class DefaultDateFormat implements MapperContext.DateFormat {
     }
   }
 
-  private class DateParser {
+  /** Cache key of a compiled pattern. */
+  private static final class Key {
+
+    private final String pattern;
+    private final ZoneId zone;
+    private final boolean useBrowserTimezone;
+    private final Boolean hasTz;
+
+    private Key(String pattern, ZoneId zone, boolean useBrowserTimezone, Boolean hasTz) {
+      this.pattern = pattern;
+      this.zone = zone;
+      this.useBrowserTimezone = useBrowserTimezone;
+      this.hasTz = hasTz;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Key)) return false;
+      Key key = (Key) o;
+      return useBrowserTimezone == key.useBrowserTimezone
+          && Objects.equals(pattern, key.pattern)
+          && Objects.equals(zone, key.zone)
+          && Objects.equals(hasTz, key.hasTz);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(pattern, zone, useBrowserTimezone, hasTz);
+    }
+  }
+
+  private static class DateParser {
 
+    /**
+     * {@link SimpleDateFormat} is not thread-safe, every parse works on a clone of this compiled
+     * prototype.
+     */
     protected final SimpleDateFormat dateTimeFormat;
 
     protected DateParser(String pattern) {
@@ -252,11 +310,11 @@ public final class DefaultDateFormat implements MapperContext.DateFormat {
     }
 
     protected Date parse(String date) {
-      return DefaultDateFormat.this.parse(dateTimeFormat, date);
+      return INSTANCE.parse((SimpleDateFormat) dateTimeFormat.clone(), date);
     }
   }
 
-  private class DateParserNoTz extends DateParser {
+  private static class DateParserNoTz extends DateParser {
 
     protected DateParserNoTz(String pattern) {
       super(pattern + " Z");
@@ -0,0 +1,229 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.treblereel.gwt.xml.mapper.api.utils;
+
+/**
+ * Parses and formats xsd:dateTime values in UTC milliseconds without going through a date-time
+ * formatter. Only the common forms are recognized, {@code yyyy-MM-ddTHH:mm[:ss[.S+]]} followed by
+ * {@code Z} or a {@code ±HH[[:]mm]} offset; callers fall back to a full formatter for anything
+ * else.
+ */
+public final class Iso8601Utils {
+
+  /** Returned by {@link #parse(String)} when the text is not in a recognized form. */
+  public static final long INVALID = Long.MIN_VALUE;
+
+  private static final long MILLIS_PER_DAY = 86_400_000L;
+
+  private Iso8601Utils() {}
+
+  /**
+   * Parses an ISO-8601 date-time with an offset.
+   *
+   * @param text the text to parse
+   * @return the milliseconds since the epoch, or {@link #INVALID} if the text is not recognized
+   */
+  public static long parse(String text) {
+    int length = text.length();
+    if (length < 17
+        || text.charAt(4) != '-'
+        || text.charAt(7) != '-'
+        || text.charAt(10) != 'T'
+        || text.charAt(13) != ':') {
+      return INVALID;
+    }
+    int year = digits(text, 0, 4);
+    int month = digits(text, 5, 2);
+    int day = digits(text, 8, 2);
+    int hour = digits(text, 11, 2);
+    int minute = digits(text, 14, 2);
+    if (year < 0
+        || month < 1
+        || month > 12
+        || day < 1
+        || day > lengthOfMonth(year, month)
+        || hour < 0
+        || hour > 23
+        || minute < 0
+        || minute > 59) {
+      return INVALID;
+    }
+
+    int pos = 16;
+    int second = 0;
+    int millis = 0;
+    if (text.charAt(pos) == ':') {
+      second = pos + 3 <= length ? digits(text, pos + 1, 2) : -1;
+      if (second < 0 || second > 59) {
+        return INVALID;
+      }
+      pos += 3;
+      if (pos < length && text.charAt(pos) == '.') {
+        int start = ++pos;
+        while (pos < length && isDigit(text.charAt(pos))) {
+          if (pos - start < 3) {
+            millis = millis * 10 + (text.charAt(pos) - '0');
+          }
+          pos++;
+        }
+        int count = pos - start;
+        if (count == 0 || count > 9) {
+          return INVALID;
+        }
+        for (int i = count; i < 3; i++) {
+          millis *= 10;
+        }
+      }
+    }
+
+    if (pos >= length) {
+      return INVALID;
+    }
+    int offsetMinutes;
+    char sign = text.charAt(pos);
+    if (sign == 'Z') {
+      offsetMinutes = 0;
+      pos++;
+    } else if (sign == '+' || sign == '-') {
+      int offsetHours = pos + 3 <= length ? digits(text, pos + 1, 2) : -1;
+      pos += 3;
+      int offsetMinute = 0;
+      if (pos < length) {
+        if (text.charAt(pos) == ':') {
+          pos++;
+        }
+        offsetMinute = pos + 2 <= length ? digits(text, pos, 2) : -1;
+        pos += 2;
+      }
+      if (offsetHours < 0 || offsetHours > 18 || offsetMinute < 0 || offsetMinute > 59) {
+        return INVALID;
+      }
+      offsetMinutes = offsetHours * 60 + offsetMinute;
+      if (sign == '-') {
+        offsetMinutes = -offsetMinutes;
+      }
+    } else {
+      return INVALID;
+    }
+    if (pos != length) {
+      return INVALID;
+    }
+
+    long seconds = ((hour * 60L + minute - offsetMinutes) * 60L) + second;
+    return daysFromCivil(year, month, day) * MILLIS_PER_DAY + seconds * 1000L + millis;
+  }
+
+  /**
+   * Formats milliseconds since the epoch as a UTC date-time, e.g. {@code 2013-08-26T19:06:11.77Z}.
+   * The seconds are always written, the fraction only when it is not zero and without trailing
+   * zeros.
+   *
+   * @param millis milliseconds since the epoch
+   * @return the formatted date-time, or null if its year does not have four digits
+   */
+  public static String format(long millis) {
+    StringBuilder builder = new StringBuilder(24);
+    return format(millis, builder) ? builder.toString() : null;
+  }
+
+  /**
+   * Appends milliseconds since the epoch as a UTC date-time to the given builder.
+   *
+   * @param millis milliseconds since the epoch
+   * @param builder the builder to append to
+   * @return false, leaving the builder untouched, if the year does not have four digits
+   * @see #format(long)
+   */
+  public static boolean format(long millis, StringBuilder builder) {
+    long days = Math.floorDiv(millis, MILLIS_PER_DAY);
+    int millisOfDay = (int) (millis - days * MILLIS_PER_DAY);
+
+    // civil date from days since the epoch, proleptic Gregorian calendar
+    long z = days + 719468;
+    long era = (z >= 0 ? z : z - 146096) / 146097;
+    long dayOfEra = z - era * 146097;
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    int mp = (int) ((5 * dayOfYear + 2) / 153);
+    int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+    int month = mp < 10 ? mp + 3 : mp - 9;
+    long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+    if (year < 0 || year > 9999) {
+      return false;
+    }
+
+    int fraction = millisOfDay % 1000;
+    int secondOfDay = millisOfDay / 1000;
+    append(builder, (int) year, 4).append('-');
+    append(builder, month, 2).append('-');
+    append(builder, day, 2).append('T');
+    append(builder, secondOfDay / 3600, 2).append(':');
+    append(builder, secondOfDay / 60 % 60, 2).append(':');
+    append(builder, secondOfDay % 60, 2);
+    if (fraction != 0) {
+      builder.append('.').append((char) ('0' + fraction / 100));
+      if (fraction % 100 != 0) {
+        builder.append((char) ('0' + fraction / 10 % 10));
+        if (fraction % 10 != 0) {
+          builder.append((char) ('0' + fraction % 10));
+        }
+      }
+    }
+    builder.append('Z');
+    return true;
+  }
+
+  private static StringBuilder append(StringBuilder builder, int value, int width) {
+    for (int divisor = width == 4 ? 1000 : 10; divisor > 0; divisor /= 10) {
+      builder.append((char) ('0' + value / divisor % 10));
+    }
+    return builder;
+  }
+
+  /** Days since the epoch of a proleptic Gregorian date. */
+  private static long daysFromCivil(int year, int month, int day) {
+    long y = month <= 2 ? year - 1 : year;
+    long era = (y >= 0 ? y : y - 399) / 400;
+    long yearOfEra = y - era * 400;
+    long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+    long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146097 + dayOfEra - 719468;
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    if (month == 2) {
+      return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+    }
+    return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+  }
+
+  /** Returns the value of count decimal digits, or -1 if any of them is not a digit. */
+  private static int digits(String text, int start, int count) {
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      char c = text.charAt(i);
+      if (!isDigit(c)) {
+        return -1;
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
@@ -29,6 +29,9 @@ import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
  */
 public final class JsDateFormat implements MapperContext.DateFormat {
 
+  /** Shared instance, the format holds no state of its own. */
+  public static final JsDateFormat INSTANCE = new JsDateFormat();
+
   @Override
   public String format(Date date) {
     return format(null, date);
@@ -20,6 +20,7 @@ import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
+import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import org.treblereel.gwt.xml.mapper.apt.context.GenerationContext;
@@ -37,7 +38,13 @@ public class BasicTypeFieldDefinition extends FieldDefinition {
         new MethodCallExpr(
             new NameExpr(context.getTypeRegistry().getDeserializer(bean).toString()),
             "getInstance");
-    if (getBean().getKind().equals(TypeKind.ARRAY)) {
+    if (getBean().getKind().equals(TypeKind.ARRAY) && field != null) {
+      // a 2D array reads its rows itself, so it is told their name
+      if (((ArrayType) getBean()).getComponentType().getKind().equals(TypeKind.ARRAY)) {
+        method =
+            new MethodCallExpr(method, "setRowName")
+                .addArgument(new StringLiteralExpr(field.getPropertyName()));
+      }
       if (field.isUnWrapped()) {
         method = new MethodCallExpr(method, "setUnWrapCollections");
       }
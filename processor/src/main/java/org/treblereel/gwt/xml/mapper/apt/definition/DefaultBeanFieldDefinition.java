@@ -46,8 +46,7 @@ public class DefaultBeanFieldDefinition extends FieldDefinition {
   public Expression getFieldDeserializer(PropertyDefinition field, CompilationUnit cu) {
     if (field != null && isPolymorphic(field)) {
       Pair<Class, Map<String, TypeMirror>> pair = maybePolymorphicType(field, bean);
-      String inheritance =
-          pair.key.equals(XmlElementRefs.class) ? "xsiTagChooser" : "xsiTypeChooser";
+      String inheritance = pair.key.equals(XmlElementRefs.class) ? "xsiTag" : "xsiType";
 
       // TODO refactoring, single field, annotated with @XmlElementRefs and @XmlElementWrapper
       String arg = "reader";
@@ -56,11 +55,11 @@ public class DefaultBeanFieldDefinition extends FieldDefinition {
               && !TypeUtils.isArray(field.getBean()))
           && field.getProperty().getAnnotation(XmlElementRefs.class) != null
           && field.getProperty().getAnnotation(XmlElementWrapper.class) != null) {
-        arg = "nextTag.apply(reader)";
+        arg = "XMLDeserializer.nextTag(reader)";
       }
 
       MethodCallExpr theCall =
-          new MethodCallExpr(new NameExpr(inheritance), "apply").addArgument(arg);
+          new MethodCallExpr(new NameExpr("XMLDeserializer"), inheritance).addArgument(arg);
 
       return new MethodCallExpr(
               generateXMLDeserializerFactory(field, bean, bean.toString(), cu, pair), "apply")
@@ -93,6 +92,11 @@ public class DefaultBeanFieldDefinition extends FieldDefinition {
         .setType(new ClassOrInterfaceType().setName(typeUtils.canonicalSerializerName(typeMirror)));
   }
 
+  @Override
+  public boolean isChosenPerElement(PropertyDefinition field) {
+    return isPolymorphic(field);
+  }
+
   private boolean isPolymorphic(PropertyDefinition field) {
     return field != null
         && (context.getBeanDefinition(getBean()).getXmlSeeAlso() != null
@@ -19,16 +19,22 @@ import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.Modifier;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BinaryExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.FieldAccessExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
 import com.github.javaparser.ast.expr.ObjectCreationExpr;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
 import com.github.javaparser.ast.stmt.IfStmt;
 import com.github.javaparser.ast.stmt.ReturnStmt;
 import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.stmt.SwitchEntry;
+import com.github.javaparser.ast.stmt.SwitchStmt;
 import com.github.javaparser.ast.stmt.ThrowStmt;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.type.Type;
@@ -97,25 +103,45 @@ public abstract class FieldDefinition extends Definition {
     method.setName("apply");
     method.setType(new ClassOrInterfaceType().setName(XMLDeserializer.class.getSimpleName()));
     method.addParameter("String", "value");
+
+    // subtype deserializers are stateless, so each one is created once per factory and shared by
+    // every element it reads
+    NodeList<SwitchEntry> entries = new NodeList<>();
     for (Map.Entry<String, TypeMirror> typeElement : maybePolymorphicType.value.entrySet()) {
+      String name = "deserializer" + entries.size();
+      anonymousClassBody.add(
+          new FieldDeclaration()
+              .setModifiers(Modifier.Keyword.PRIVATE, Modifier.Keyword.FINAL)
+              .addVariable(
+                  new VariableDeclarator()
+                      .setType(
+                          new ClassOrInterfaceType().setName(XMLDeserializer.class.getSimpleName()))
+                      .setName(name)
+                      .setInitializer(
+                          new ObjectCreationExpr()
+                              .setType(
+                                  new ClassOrInterfaceType()
+                                      .setName(
+                                          typeUtils.canonicalDeserializerName(
+                                              typeElement.getValue()))))));
+      entries.add(
+          new SwitchEntry()
+              .setLabels(new NodeList<>(new StringLiteralExpr(typeElement.getKey())))
+              .setStatements(new NodeList<>(new ReturnStmt(new NameExpr(name)))));
+    }
+    if (!entries.isEmpty()) {
       method
           .getBody()
           .ifPresent(
               body ->
-                  body.addAndGetStatement(
-                          new IfStmt()
-                              .setCondition(
-                                  new MethodCallExpr(
-                                          new StringLiteralExpr(typeElement.getKey()), "equals")
-                                      .addArgument(new NameExpr("value"))))
-                      .setThenStmt(
-                          new ReturnStmt(
-                              new ObjectCreationExpr()
-                                  .setType(
-                                      new ClassOrInterfaceType()
-                                          .setName(
-                                              typeUtils.canonicalDeserializerName(
-                                                  typeElement.getValue()))))));
+                  body.addStatement(
+                      new IfStmt()
+                          .setCondition(
+                              new BinaryExpr(
+                                  new NameExpr("value"),
+                                  new NullLiteralExpr(),
+                                  BinaryExpr.Operator.NOT_EQUALS))
+                          .setThenStmt(new SwitchStmt(new NameExpr("value"), entries))));
     }
     anonymousClassBody.add(method);
 
@@ -140,9 +166,28 @@ public abstract class FieldDefinition extends Definition {
                         .addArgument(new NameExpr("\"Unknown property '\" + value + \"'\"")));
       }
     } else {
-      expression =
-          new ReturnStmt(
-              propertyDefinitionFactory.getFieldDefinition(type).getFieldDeserializer(null, cu));
+      Expression deserializer =
+          propertyDefinitionFactory.getFieldDefinition(type).getFieldDeserializer(null, cu);
+      if (!deserializer
+          .findFirst(
+              NameExpr.class,
+              name ->
+                  name.getNameAsString().equals("value") || name.getNameAsString().equals("reader"))
+          .isPresent()) {
+        anonymousClassBody.add(
+            anonymousClassBody.size() - 1,
+            new FieldDeclaration()
+                .setModifiers(Modifier.Keyword.PRIVATE, Modifier.Keyword.FINAL)
+                .addVariable(
+                    new VariableDeclarator()
+                        .setType(
+                            new ClassOrInterfaceType()
+                                .setName(XMLDeserializer.class.getSimpleName()))
+                        .setName("defaultDeserializer")
+                        .setInitializer(deserializer)));
+        deserializer = new NameExpr("defaultDeserializer");
+      }
+      expression = new ReturnStmt(deserializer);
     }
     method.getBody().ifPresent(body -> body.addAndGetStatement(expression));
     return func;
@@ -150,6 +195,17 @@ public abstract class FieldDefinition extends Definition {
 
   public abstract Expression getFieldDeserializer(PropertyDefinition field, CompilationUnit cu);
 
+  /**
+   * Tells whether the deserializer of the given property depends on the element being read, like
+   * the subtype named by its xsi:type, so it can't be kept for the next element.
+   *
+   * @param field the property
+   * @return true if the deserializer is chosen per element
+   */
+  public boolean isChosenPerElement(PropertyDefinition field) {
+    return false;
+  }
+
   protected Pair<Class, Map<String, TypeMirror>> maybePolymorphicType(
       PropertyDefinition field, TypeMirror type) {
     if (field != null && field.getProperty() != null) {
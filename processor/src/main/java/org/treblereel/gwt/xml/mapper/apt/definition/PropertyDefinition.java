@@ -67,6 +67,15 @@ public class PropertyDefinition extends Definition {
     return result;
   }
 
+  /**
+   * Tells whether the deserializer of this property is chosen by the element being read.
+   *
+   * @return true if the deserializer is chosen per element
+   */
+  public boolean isChosenPerElement() {
+    return propertyDefinitionFactory.getFieldDefinition(this).isChosenPerElement(this);
+  }
+
   public boolean isCData() {
     return bean.toString().equals(String.class.getCanonicalName())
         && property.getAnnotation(XmlCData.class) != null;
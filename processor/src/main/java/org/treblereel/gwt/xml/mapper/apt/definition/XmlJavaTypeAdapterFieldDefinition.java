@@ -116,6 +116,11 @@ public class XmlJavaTypeAdapterFieldDefinition extends FieldDefinition {
     return newWrapper;
   }
 
+  @Override
+  public boolean isChosenPerElement(PropertyDefinition field) {
+    return fieldDefinition.isChosenPerElement(field);
+  }
+
   @Override
   public Expression getFieldSerializer(PropertyDefinition field, CompilationUnit cu) {
     cu.addImport(Function.class);
@@ -18,10 +18,13 @@ package org.treblereel.gwt.xml.mapper.apt.deserializer;
 import com.github.javaparser.ast.Modifier;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.body.MethodDeclaration;
 import com.github.javaparser.ast.body.VariableDeclarator;
 import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BinaryExpr;
 import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.CastExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.FieldAccessExpr;
 import com.github.javaparser.ast.expr.MethodCallExpr;
@@ -32,12 +35,21 @@ import com.github.javaparser.ast.expr.StringLiteralExpr;
 import com.github.javaparser.ast.expr.VariableDeclarationExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
 import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.stmt.SwitchEntry;
+import com.github.javaparser.ast.stmt.SwitchStmt;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.google.auto.common.MoreTypes;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.MapperContextProvider;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLDeserializer;
@@ -138,126 +150,188 @@ public class DeserializerGenerator extends AbstractGenerator {
         TreeLogger.INFO,
         "Generating " + context.getTypeUtils().deserializerName(beanDefinition.getBean()));
     initDeserializers(beanDefinition);
+    hasAccumulatingProperties(beanDefinition);
     initInstanceBuilder(beanDefinition);
   }
 
+  private void hasAccumulatingProperties(BeanDefinition beanDefinition) {
+    boolean accumulating = beanDefinition.getFields().stream().anyMatch(this::isAccumulating);
+    declaration
+        .addMethod("hasAccumulatingProperties", Modifier.Keyword.PROTECTED)
+        .addAnnotation(Override.class)
+        .setType(boolean.class)
+        .getBody()
+        .ifPresent(body -> body.addStatement(new ReturnStmt(new BooleanLiteralExpr(accumulating))));
+  }
+
   private void initDeserializers(BeanDefinition beanDefinition) {
-    MethodDeclaration initSerializers =
-        declaration.addMethod("initDeserializers", Modifier.Keyword.PROTECTED);
+    // attributes, CDATA and the XML value are looked up by name, child elements are read by a
+    // switch that calls the setter. A later declaration wins as it did in the map
+    Map<String, String> lookups = new LinkedHashMap<>();
+    Map<String, PropertyDefinition> elements = new LinkedHashMap<>();
+    Map<PropertyDefinition, String> names = new LinkedHashMap<>();
+    for (PropertyDefinition field : beanDefinition.getFields()) {
+      String name = addBeanPropertyDeserializer(beanDefinition.getElement(), beanDefinition, field);
+      names.put(field, name);
+      String key = getMapPropertyName(field).getValue();
+      if (field.isAttribute() || field.isXmlValue() || key.equals("$CDATA")) {
+        lookups.put(key, name);
+      } else if (field.isUnWrapped() && (field.hasXmlSeeAlso() || field.hasXmlElementRefs())) {
+        addAliases(elements, field);
+      } else {
+        elements.put(key, field);
+      }
+    }
+    addPropertyLookup(beanDefinition, lookups);
+    addPropertyDispatch(beanDefinition, elements, names);
+  }
 
-    initSerializers
-        .addAnnotation(Override.class)
-        .setType(
+  private ClassOrInterfaceType getBeanPropertyDeserializerType(BeanDefinition beanDefinition) {
+    return new ClassOrInterfaceType()
+        .setName(BeanPropertyDeserializer.class.getSimpleName())
+        .setTypeArguments(
             new ClassOrInterfaceType()
-                .setName(MapLike.class.getSimpleName())
-                .setTypeArguments(
-                    new ClassOrInterfaceType()
-                        .setName(BeanPropertyDeserializer.class.getSimpleName())
-                        .setTypeArguments(
-                            new ClassOrInterfaceType()
-                                .setName(beanDefinition.getElement().getSimpleName().toString()),
-                            new ClassOrInterfaceType().setName("?"))));
-    ClassOrInterfaceType varType =
-        new ClassOrInterfaceType()
-            .setName("MapLike")
-            .setTypeArguments(
-                new ClassOrInterfaceType()
-                    .setName(BeanPropertyDeserializer.class.getSimpleName())
-                    .setTypeArguments(
-                        new ClassOrInterfaceType()
-                            .setName(beanDefinition.getElement().getSimpleName().toString()),
-                        new ClassOrInterfaceType().setName("?")));
-
-    VariableDeclarator map = new VariableDeclarator();
-    map.setType(varType);
-    map.setName("map");
-    map.setInitializer(new NameExpr("MapperContextProvider.get().mapLikeFactory().make()"));
+                .setName(beanDefinition.getElement().getSimpleName().toString()),
+            new ClassOrInterfaceType().setName("?"));
+  }
 
-    ExpressionStmt expressionStmt = new ExpressionStmt();
-    VariableDeclarationExpr variableDeclarationExpr = new VariableDeclarationExpr();
-    variableDeclarationExpr.setModifiers(Modifier.Keyword.FINAL);
-    expressionStmt.setExpression(variableDeclarationExpr);
-    variableDeclarationExpr.getVariables().add(map);
+  private void addPropertyLookup(BeanDefinition beanDefinition, Map<String, String> properties) {
+    MethodDeclaration method =
+        declaration.addMethod("getPropertyDeserializer", Modifier.Keyword.PROTECTED);
+    method
+        .addAnnotation(Override.class)
+        .setType(getBeanPropertyDeserializerType(beanDefinition))
+        .addParameter(String.class.getSimpleName(), "propertyName");
 
-    initSerializers
+    if (properties.isEmpty()) {
+      method.getBody().ifPresent(body -> body.addStatement(new ReturnStmt(new NullLiteralExpr())));
+      return;
+    }
+    NodeList<SwitchEntry> entries = new NodeList<>();
+    properties.forEach(
+        (key, name) ->
+            entries.add(
+                new SwitchEntry()
+                    .setLabels(new NodeList<>(new StringLiteralExpr(key)))
+                    .setStatements(new NodeList<>(new ReturnStmt(new NameExpr(name))))));
+    entries.add(
+        new SwitchEntry().setStatements(new NodeList<>(new ReturnStmt(new NullLiteralExpr()))));
+
+    method
         .getBody()
         .ifPresent(
-            body -> {
-              body.addStatement(expressionStmt);
-              for (PropertyDefinition field : beanDefinition.getFields()) {
-                if (field.isUnWrapped() && (field.hasXmlSeeAlso() || field.hasXmlElementRefs())) {
-                  addBeanPropertyDeserializerInstance(
-                      body, beanDefinition.getElement(), beanDefinition, field);
-                } else {
-                  addBeanPropertyDeserializer(
-                      body, beanDefinition.getElement(), beanDefinition, field);
-                }
-              }
-              body.addStatement(new ReturnStmt("map"));
-            });
+            body -> body.addStatement(new SwitchStmt(new NameExpr("propertyName"), entries)));
   }
 
-  private void addBeanPropertyDeserializerInstance(
-      BlockStmt body, TypeElement type, BeanDefinition beanDefinition, PropertyDefinition field) {
-    ClassOrInterfaceType typeArg = getWrappedType(field);
-    ClassOrInterfaceType beanPropertyDeserializer =
-        new ClassOrInterfaceType().setName(BeanPropertyDeserializer.class.getSimpleName());
-    beanPropertyDeserializer.setTypeArguments(
-        new ClassOrInterfaceType().setName(type.getSimpleName().toString()), typeArg);
-
-    VariableDeclarator result = new VariableDeclarator();
-    result.setType(beanPropertyDeserializer);
-    result.setName(field.getPropertyName());
-
-    NodeList<BodyDeclaration<?>> anonymousClassBody = new NodeList<>();
-
-    result.setInitializer(
-        new ObjectCreationExpr()
-            .setType(beanPropertyDeserializer)
-            .setAnonymousClassBody(anonymousClassBody));
-    addNewDeserializer(field, anonymousClassBody);
-    setValue(type, typeArg, beanDefinition, field, anonymousClassBody);
+  private void addPropertyDispatch(
+      BeanDefinition beanDefinition,
+      Map<String, PropertyDefinition> elements,
+      Map<PropertyDefinition, String> names) {
+    MethodDeclaration method =
+        declaration.addMethod("deserializeProperty", Modifier.Keyword.PROTECTED);
+    method
+        .addAnnotation(Override.class)
+        .setType(boolean.class)
+        .addParameter(String.class.getSimpleName(), "propertyName")
+        .addParameter(XMLReader.class.getCanonicalName(), "reader")
+        .addParameter(beanDefinition.getElement().getSimpleName().toString(), "bean")
+        .addParameter(XMLDeserializationContext.class.getSimpleName(), "ctx")
+        .addParameter(
+            new ClassOrInterfaceType()
+                .setName(
+                    AbstractBeanXMLDeserializer.class.getSimpleName()
+                        + "."
+                        + AbstractBeanXMLDeserializer.Accumulations.class.getSimpleName())
+                .setTypeArguments(
+                    new ClassOrInterfaceType()
+                        .setName(beanDefinition.getElement().getSimpleName().toString())),
+            "accumulations")
+        .addThrownException(XMLStreamException.class);
+
+    // the labels of one property share its statements, a label that a later property took over
+    // is dropped
+    Map<PropertyDefinition, NodeList<Expression>> labels = new LinkedHashMap<>();
+    elements.forEach(
+        (key, field) ->
+            labels.computeIfAbsent(field, f -> new NodeList<>()).add(new StringLiteralExpr(key)));
+
+    NodeList<SwitchEntry> entries = new NodeList<>();
+    labels.forEach(
+        (field, keys) -> {
+          for (int i = 0; i < keys.size() - 1; i++) {
+            entries.add(new SwitchEntry().setLabels(new NodeList<>(keys.get(i))));
+          }
+          entries.add(
+              new SwitchEntry()
+                  .setLabels(new NodeList<>(keys.get(keys.size() - 1)))
+                  .setStatements(readProperty(beanDefinition, field, names.get(field))));
+        });
+    entries.add(
+        new SwitchEntry()
+            .setStatements(new NodeList<>(new ReturnStmt(new BooleanLiteralExpr(false)))));
 
-    ExpressionStmt expressionStmt = new ExpressionStmt();
-    VariableDeclarationExpr variableDeclarationExpr = new VariableDeclarationExpr();
+    method
+        .getBody()
+        .ifPresent(
+            body -> body.addStatement(new SwitchStmt(new NameExpr("propertyName"), entries)));
+  }
 
-    expressionStmt.setExpression(variableDeclarationExpr);
-    variableDeclarationExpr.getVariables().add(result);
-    body.addStatement(variableDeclarationExpr);
-    addAliasToMap(body, field);
+  private NodeList<Statement> readProperty(
+      BeanDefinition beanDefinition, PropertyDefinition field, String name) {
+    NodeList<Statement> statements = new NodeList<>();
+    if (isAccumulating(field)) {
+      statements.add(
+          new ExpressionStmt(
+              new MethodCallExpr(new NameExpr("accumulations"), "accumulate")
+                  .addArgument(new NameExpr(name))
+                  .addArgument(new NameExpr("reader"))
+                  .addArgument(new NameExpr("bean"))
+                  .addArgument(new NameExpr("ctx"))));
+    } else {
+      statements.add(
+          new ExpressionStmt(
+              new VariableDeclarationExpr(
+                  new VariableDeclarator(
+                      getWrappedType(field),
+                      "value",
+                      new MethodCallExpr(new NameExpr(name), "deserialize")
+                          .addArgument(new NameExpr("reader"))
+                          .addArgument(new NameExpr("ctx"))))));
+      statements.add(
+          new IfStmt()
+              .setCondition(
+                  new BinaryExpr(
+                      new NameExpr("value"), new NullLiteralExpr(), BinaryExpr.Operator.NOT_EQUALS))
+              .setThenStmt(new ExpressionStmt(getFieldAccessor(beanDefinition, field))));
+    }
+    statements.add(new ReturnStmt(new BooleanLiteralExpr(true)));
+    return new NodeList<>(new BlockStmt(statements));
   }
 
-  private void addAliasToMap(BlockStmt body, PropertyDefinition field) {
+  private void addAliases(Map<String, PropertyDefinition> properties, PropertyDefinition field) {
     if (field.hasXmlSeeAlso()) {
-
       for (TypeElement typeElement : field.getXmlSeeAlso()) {
-        body.addStatement(
-            new MethodCallExpr(new NameExpr("map"), "put")
-                .addArgument(new StringLiteralExpr(typeElement.getSimpleName().toString()))
-                .addArgument(field.getPropertyName()));
+        properties.put(typeElement.getSimpleName().toString(), field);
       }
-      body.addStatement(
-          new MethodCallExpr(new NameExpr("map"), "put")
-              .addArgument(new StringLiteralExpr(field.asTypeElement().getSimpleName().toString()))
-              .addArgument(field.getPropertyName()));
+      properties.put(field.asTypeElement().getSimpleName().toString(), field);
     } else if (field.hasXmlElementRefs()) {
       for (String typeElement : field.getXmlElementRefs().keySet()) {
-        body.addStatement(
-            new MethodCallExpr(new NameExpr("map"), "put")
-                .addArgument(new StringLiteralExpr(typeElement))
-                .addArgument(field.getPropertyName()));
+        properties.put(typeElement, field);
       }
     }
     if (field.isWrapped()) {
-      body.addStatement(
-          new MethodCallExpr(new NameExpr("map"), "put")
-              .addArgument(new StringLiteralExpr(field.getWrapped().key))
-              .addArgument(field.getPropertyName()));
+      properties.put(field.getWrapped().key, field);
     }
   }
 
-  private void addBeanPropertyDeserializer(
-      BlockStmt body, TypeElement type, BeanDefinition beanDefinition, PropertyDefinition field) {
+  /**
+   * Adds a static final field holding the {@link BeanPropertyDeserializer} of the given property,
+   * it is shared by all the instances of the deserializer.
+   *
+   * @return the name of the field
+   */
+  private String addBeanPropertyDeserializer(
+      TypeElement type, BeanDefinition beanDefinition, PropertyDefinition field) {
     NodeList<BodyDeclaration<?>> anonymousClassBody = new NodeList<>();
 
     ClassOrInterfaceType typeArg = getWrappedType(field);
@@ -265,17 +339,25 @@ public class DeserializerGenerator extends AbstractGenerator {
         new ClassOrInterfaceType().setName(BeanPropertyDeserializer.class.getSimpleName());
     beanPropertyDeserializer.setTypeArguments(
         new ClassOrInterfaceType().setName(type.getSimpleName().toString()), typeArg);
-    Expression mapPropertyName = getMapPropertyName(field);
-    body.addStatement(
-        new MethodCallExpr(new NameExpr("map"), "put")
-            .addArgument(mapPropertyName)
-            .addArgument(
-                new ObjectCreationExpr()
-                    .setType(beanPropertyDeserializer)
-                    .setAnonymousClassBody(anonymousClassBody)));
-    addNewDeserializer(field, anonymousClassBody);
+
+    String name = field.getProperty().getSimpleName() + "Deserializer";
+    while (declaration.getFieldByName(name).isPresent()) {
+      name = "_" + name;
+    }
+    declaration.addFieldWithInitializer(
+        beanPropertyDeserializer,
+        name,
+        new ObjectCreationExpr()
+            .setType(beanPropertyDeserializer)
+            .setAnonymousClassBody(anonymousClassBody),
+        Modifier.Keyword.PRIVATE,
+        Modifier.Keyword.STATIC,
+        Modifier.Keyword.FINAL);
+    addNewDeserializer(field, typeArg, anonymousClassBody);
     setValue(type, typeArg, beanDefinition, field, anonymousClassBody);
     isAttribute(anonymousClassBody, field);
+    isAccumulating(anonymousClassBody, field);
+    return name;
   }
 
   private StringLiteralExpr getMapPropertyName(PropertyDefinition field) {
@@ -291,20 +373,75 @@ public class DeserializerGenerator extends AbstractGenerator {
   }
 
   private void addNewDeserializer(
-      PropertyDefinition field, NodeList<BodyDeclaration<?>> anonymousClassBody) {
+      PropertyDefinition field,
+      ClassOrInterfaceType fieldType,
+      NodeList<BodyDeclaration<?>> anonymousClassBody) {
+    Expression expr = createFieldDeserializerExpr(field);
+    // a deserializer chosen per element is looked up in a factory built on first use, not when
+    // the class is initialized, as the factory may refer back to this bean. The property
+    // deserializer is shared by every thread, so the factory is published through a volatile field
+    NodeList<Statement> statements = new NodeList<>();
+    if (field.isChosenPerElement()) {
+      List<MethodCallExpr> calls =
+          expr.findAll(
+              MethodCallExpr.class,
+              call ->
+                  call.getNameAsString().equals("apply")
+                      && call.getScope().filter(Expression::isObjectCreationExpr).isPresent());
+      for (int i = 0; i < calls.size(); i++) {
+        MethodCallExpr call = calls.get(i);
+        ObjectCreationExpr factory = call.getScope().get().asObjectCreationExpr();
+        String name = i == 0 ? "deserializers" : "deserializers" + i;
+        anonymousClassBody.add(
+            new FieldDeclaration()
+                .setModifiers(Modifier.Keyword.PRIVATE, Modifier.Keyword.VOLATILE)
+                .addVariable(
+                    new VariableDeclarator().setType(factory.getType().clone()).setName(name)));
+        statements.add(
+            new IfStmt()
+                .setCondition(
+                    new BinaryExpr(
+                        new NameExpr(name), new NullLiteralExpr(), BinaryExpr.Operator.EQUALS))
+                .setThenStmt(
+                    new ExpressionStmt(
+                        new AssignExpr(
+                            new NameExpr(name), factory.clone(), AssignExpr.Operator.ASSIGN))));
+        call.setScope(new NameExpr(name));
+      }
+    }
+    statements.add(new ReturnStmt().setExpression(expr));
     MethodDeclaration method = new MethodDeclaration();
     method.setModifiers(Modifier.Keyword.PROTECTED);
     method.addAnnotation(Override.class);
     method.setName("newDeserializer");
     method.addParameter(XMLReader.class.getCanonicalName(), "reader");
     method.setType(new ClassOrInterfaceType().setName("XMLDeserializer<?>"));
-    method
-        .getBody()
-        .ifPresent(
-            body ->
-                body.addAndGetStatement(
-                    new ReturnStmt().setExpression(createFieldDeserializerExpr(field))));
+    method.setBody(new BlockStmt(statements));
     anonymousClassBody.add(method);
+
+    // the deserializer is chosen by the current element, so it can't be kept for the next one
+    if (field.isChosenPerElement()) {
+      ClassOrInterfaceType deserializerType =
+          new ClassOrInterfaceType()
+              .setName(XMLDeserializer.class.getSimpleName())
+              .setTypeArguments(fieldType);
+      MethodDeclaration getDeserializer = new MethodDeclaration();
+      getDeserializer.setModifiers(Modifier.Keyword.PUBLIC);
+      getDeserializer.addAnnotation(Override.class);
+      getDeserializer.setName("getDeserializer");
+      getDeserializer.addParameter(XMLReader.class.getCanonicalName(), "reader");
+      getDeserializer.setType(deserializerType);
+      getDeserializer
+          .getBody()
+          .ifPresent(
+              body ->
+                  body.addAndGetStatement(
+                      new ReturnStmt(
+                          new CastExpr(
+                              deserializerType,
+                              new MethodCallExpr("newDeserializer").addArgument("reader")))));
+      anonymousClassBody.add(getDeserializer);
+    }
   }
 
   private Expression createFieldDeserializerExpr(PropertyDefinition field) {
@@ -377,6 +514,32 @@ public class DeserializerGenerator extends AbstractGenerator {
     }
   }
 
+  private boolean isAccumulating(PropertyDefinition propertyDefinition) {
+    TypeMirror bean = propertyDefinition.getBean();
+    return bean.getKind().equals(TypeKind.ARRAY)
+        || typeUtils.isCollection(bean)
+        || typeUtils.isIterable(bean);
+  }
+
+  private void isAccumulating(
+      NodeList<BodyDeclaration<?>> anonymousClassBody, PropertyDefinition propertyDefinition) {
+    if (isAccumulating(propertyDefinition)) {
+      MethodDeclaration method = new MethodDeclaration();
+      method.setModifiers(Modifier.Keyword.PROTECTED);
+      method.addAnnotation(Override.class);
+      method.setName("isAccumulating");
+      method.setType(new ClassOrInterfaceType().setName("boolean"));
+
+      method
+          .getBody()
+          .ifPresent(
+              body ->
+                  body.addAndGetStatement(
+                      new ReturnStmt().setExpression(new BooleanLiteralExpr(true))));
+      anonymousClassBody.add(method);
+    }
+  }
+
   private void initInstanceBuilder(BeanDefinition type) {
     MethodDeclaration initInstanceBuilder =
         declaration.addMethod("initInstanceBuilder", Modifier.Keyword.PROTECTED);
@@ -37,20 +37,28 @@ import com.github.javaparser.ast.stmt.ExpressionStmt;
 import com.github.javaparser.ast.stmt.ReturnStmt;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.ast.type.VoidType;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.stream.XMLStreamException;
 import org.treblereel.gwt.xml.mapper.api.PropertyType;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
 import org.treblereel.gwt.xml.mapper.api.XMLSerializer;
+import org.treblereel.gwt.xml.mapper.api.ser.BaseNumberXMLSerializer;
+import org.treblereel.gwt.xml.mapper.api.ser.BooleanXMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.ser.XmlElementWrapperSerializer;
 import org.treblereel.gwt.xml.mapper.api.ser.bean.AbstractBeanXMLSerializer;
 import org.treblereel.gwt.xml.mapper.api.ser.bean.BeanPropertySerializer;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLName;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
 import org.treblereel.gwt.xml.mapper.api.utils.Pair;
 import org.treblereel.gwt.xml.mapper.apt.TypeUtils;
 import org.treblereel.gwt.xml.mapper.apt.context.GenerationContext;
@@ -64,6 +72,20 @@ public class SerializerGenerator extends AbstractGenerator {
 
   public static final String STRING = "String";
   public static final String RESULT = "result";
+
+  /** The serializers that write a primitive value without boxing it. */
+  private static final Set<String> PRIMITIVE_SERIALIZERS =
+      Stream.of(
+              BaseNumberXMLSerializer.ByteXMLSerializer.class,
+              BaseNumberXMLSerializer.ShortXMLSerializer.class,
+              BaseNumberXMLSerializer.IntegerXMLSerializer.class,
+              BaseNumberXMLSerializer.LongXMLSerializer.class,
+              BaseNumberXMLSerializer.FloatXMLSerializer.class,
+              BaseNumberXMLSerializer.DoubleXMLSerializer.class,
+              BooleanXMLSerializer.class)
+          .map(Class::getCanonicalName)
+          .collect(Collectors.toSet());
+
   private ConstructorDeclaration constructor;
 
   public SerializerGenerator(GenerationContext context, TreeLogger logger) {
@@ -83,6 +105,7 @@ public class SerializerGenerator extends AbstractGenerator {
     cu.addImport(Pair.class);
     cu.addImport(List.class);
     cu.addImport(BeanPropertySerializer.class);
+    cu.addImport(XMLName.class);
     cu.addImport(XMLSerializer.class);
     cu.addImport(type.getQualifiedName());
 
@@ -281,7 +304,7 @@ public class SerializerGenerator extends AbstractGenerator {
         new ClassOrInterfaceType().setName(BeanPropertySerializer.class.getSimpleName());
 
     beanProperty.setType(beanType);
-    beanProperty.addArgument(new StringLiteralExpr(variableElement.getPropertyName()));
+    beanProperty.addArgument(new NameExpr(addXMLName(variableElement)));
     if (variableElement.isCData()) {
       String value =
           PropertyType.class.getCanonicalName()
@@ -299,6 +322,22 @@ public class SerializerGenerator extends AbstractGenerator {
     addMethods(beanProperty, beanDefinition, variableElement);
   }
 
+  private String addXMLName(PropertyDefinition field) {
+    String name = field.getProperty().getSimpleName() + "Name";
+    while (declaration.getFieldByName(name).isPresent()) {
+      name = "_" + name;
+    }
+    declaration.addFieldWithInitializer(
+        new ClassOrInterfaceType().setName(XMLName.class.getSimpleName()),
+        name,
+        new MethodCallExpr(new NameExpr(XMLName.class.getSimpleName()), "of")
+            .addArgument(new StringLiteralExpr(field.getPropertyName())),
+        Modifier.Keyword.PRIVATE,
+        Modifier.Keyword.STATIC,
+        Modifier.Keyword.FINAL);
+    return name;
+  }
+
   private void setTypeParams(
       BeanDefinition beanDefinition,
       PropertyDefinition variableElement,
@@ -345,6 +384,7 @@ public class SerializerGenerator extends AbstractGenerator {
 
     newSerializer(anonymousClassBody, propertyDefinition);
     getValue(anonymousClassBody, beanDefinition, propertyDefinition);
+    serializePrimitive(anonymousClassBody, beanDefinition, propertyDefinition);
     isAttribute(anonymousClassBody, propertyDefinition);
     getNamespace(anonymousClassBody, propertyDefinition);
     getPrefix(anonymousClassBody, beanDefinition, propertyDefinition);
@@ -408,6 +448,61 @@ public class SerializerGenerator extends AbstractGenerator {
     anonymousClassBody.add(method);
   }
 
+  private void serializePrimitive(
+      NodeList<BodyDeclaration<?>> anonymousClassBody,
+      BeanDefinition bean,
+      PropertyDefinition field) {
+    if (!isPrimitive(bean, field)) {
+      return;
+    }
+    cu.addImport(XMLWriter.class);
+    cu.addImport(XMLStreamException.class);
+    MethodDeclaration method = new MethodDeclaration();
+    method.setModifiers(Modifier.Keyword.PUBLIC);
+    method.addAnnotation(Override.class);
+    method.setName("serialize");
+    method.setType(new VoidType());
+    method.addParameter(XMLWriter.class.getSimpleName(), "writer");
+    method.addParameter(new ClassOrInterfaceType().setName(bean.getSimpleName()), "bean");
+    method.addParameter(XMLSerializationContext.class.getSimpleName(), "ctx");
+    method.addThrownException(
+        new ClassOrInterfaceType().setName(XMLStreamException.class.getSimpleName()));
+    method
+        .getBody()
+        .ifPresent(
+            body ->
+                body.addStatement(
+                    new MethodCallExpr("serialize")
+                        .addArgument(new NameExpr("writer"))
+                        .addArgument(getFieldAccessor(bean, field))
+                        .addArgument(new NameExpr("ctx"))));
+    anonymousClassBody.add(method);
+  }
+
+  /**
+   * Returns true if the value of the property is read as a primitive and written by one of the
+   * {@link #PRIMITIVE_SERIALIZERS}, so it needn't be boxed.
+   */
+  private boolean isPrimitive(BeanDefinition bean, PropertyDefinition field) {
+    TypeKind kind = field.getBean().getKind();
+    if (!kind.isPrimitive() || kind.equals(TypeKind.CHAR) || field.isWrapped()) {
+      return false;
+    }
+    if (!bean.getAccessorType().equals(XmlAccessType.FIELD)
+        && typeUtils.hasGetter(field.getProperty())
+        && !typeUtils.getGetter(field.getProperty()).getReturnType().getKind().isPrimitive()) {
+      return false;
+    }
+    Expression serializer = field.getFieldSerializer(cu);
+    return serializer.isMethodCallExpr()
+        && serializer.asMethodCallExpr().getNameAsString().equals("getInstance")
+        && serializer
+            .asMethodCallExpr()
+            .getScope()
+            .map(scope -> PRIMITIVE_SERIALIZERS.contains(scope.toString()))
+            .orElse(false);
+  }
+
   private Expression getFieldAccessor(BeanDefinition beanDefinition, PropertyDefinition field) {
     boolean hasGetter = typeUtils.hasGetter(field.getProperty());
 
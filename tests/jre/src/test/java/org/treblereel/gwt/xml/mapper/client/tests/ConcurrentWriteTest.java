@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.treblereel.gwt.xml.mapper.client.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.j2cl.junit.apt.J2clTestInput;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.xml.bind.annotation.XmlAttribute;
+import org.junit.Test;
+import org.treblereel.gwt.xml.mapper.api.annotation.XMLMapper;
+import org.treblereel.gwt.xml.mapper.client.tests.annotations.seealso.Animal;
+import org.treblereel.gwt.xml.mapper.client.tests.annotations.seealso.Cat;
+import org.treblereel.gwt.xml.mapper.client.tests.annotations.seealso.Dog;
+
+@J2clTestInput(ConcurrentWriteTest.class)
+public class ConcurrentWriteTest {
+
+  private static final int THREADS = 8;
+
+  private static final int ITERATIONS = 200;
+
+  private final ConcurrentWriteTest_Owner_XMLMapperImpl mapper =
+      ConcurrentWriteTest_Owner_XMLMapperImpl.INSTANCE;
+
+  @Test
+  public void testSubtypesAcrossWrites() throws Exception {
+    String cat = mapper.write(owner(0));
+    String dog = mapper.write(owner(1));
+
+    assertTrue(
+        cat,
+        cat.contains(
+            "<pet xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"Cat\"><nickname>pet0</nickname></pet>"));
+    assertTrue(
+        dog,
+        dog.contains(
+            "<pet xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"Dog\"><nickname>pet1</nickname></pet>"));
+    assertEquals(cat, mapper.write(owner(0)));
+  }
+
+  @Test
+  public void testConcurrentWrites() throws Exception {
+    Owner[] owners = new Owner[THREADS];
+    String[] expected = new String[THREADS];
+    for (int i = 0; i < THREADS; i++) {
+      owners[i] = owner(i);
+      expected[i] = mapper.write(owners[i]);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<Void>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        int offset = t;
+        Callable<Void> task =
+            () -> {
+              for (int i = 0; i < ITERATIONS; i++) {
+                int index = (offset + i) % THREADS;
+                assertEquals(expected[index], mapper.write(owners[index]));
+              }
+              return null;
+            };
+        futures.add(executor.submit(task));
+      }
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static Owner owner(int i) {
+    Owner owner = new Owner();
+    owner.id = "id" + i;
+    owner.age = i;
+    owner.name = "owner" + i;
+    owner.tags = Arrays.asList("tag" + i, "tag" + (i + 1));
+    if (i % 2 == 0) {
+      Cat cat = new Cat();
+      cat.setNickname("pet" + i);
+      owner.pet = cat;
+    } else {
+      Dog dog = new Dog();
+      dog.setNickname("pet" + i);
+      owner.pet = dog;
+    }
+    return owner;
+  }
+
+  @XMLMapper
+  public static class Owner {
+
+    @XmlAttribute public String id;
+
+    @XmlAttribute public int age;
+
+    public String name;
+
+    public List<String> tags;
+
+    public Animal pet;
+  }
+}
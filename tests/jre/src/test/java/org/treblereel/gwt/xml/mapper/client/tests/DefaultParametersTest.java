@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.treblereel.gwt.xml.mapper.client.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import com.google.j2cl.junit.apt.J2clTestInput;
+import javax.xml.stream.XMLStreamException;
+import org.junit.Test;
+import org.treblereel.gwt.xml.mapper.api.MapperContextProvider;
+import org.treblereel.gwt.xml.mapper.api.XMLDeserializerParameters;
+import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
+import org.treblereel.gwt.xml.mapper.api.deser.bean.TypeDeserializationInfo;
+import org.treblereel.gwt.xml.mapper.client.tests.arrays.dd.ByteArray2d;
+import org.treblereel.gwt.xml.mapper.client.tests.arrays.dd.ByteArray2d_XMLMapperImpl;
+
+@J2clTestInput(DefaultParametersTest.class)
+public class DefaultParametersTest {
+
+  private static final ByteArray2d_XMLMapperImpl mapper = ByteArray2d_XMLMapperImpl.INSTANCE;
+
+  @Test
+  public void testReadDoesNotChangeDefaultDeserializerParameters() throws XMLStreamException {
+    XMLDeserializerParameters defaults =
+        MapperContextProvider.get().defaultDeserializerParameters();
+
+    ByteArray2d test = new ByteArray2d();
+    test.setArray(new byte[][] {{0, 11, 22, 33}});
+    test.setArray2(new byte[][] {{0, -11, -22, -33}});
+    mapper.read(mapper.write(test));
+
+    assertNull(defaults.getTypeInfo());
+
+    XMLDeserializerParameters parameters = MapperContextProvider.get().newDeserializerParameters();
+    assertEquals("yyyy", parameters.setPattern("yyyy").getPattern());
+  }
+
+  @Test
+  public void testDefaultDeserializerParametersAreImmutable() {
+    XMLDeserializerParameters defaults =
+        MapperContextProvider.get().defaultDeserializerParameters();
+    try {
+      defaults.setTypeInfo(new TypeDeserializationInfo<>("property"));
+      fail("Shared default parameters must not be changed");
+    } catch (UnsupportedOperationException e) {
+      // expected
+    }
+    assertNull(defaults.getTypeInfo());
+  }
+
+  @Test
+  public void testDefaultSerializerParametersAreImmutable() {
+    XMLSerializerParameters defaults = MapperContextProvider.get().defaultSerializerParameters();
+    try {
+      defaults.setPattern("yyyy");
+      fail("Shared default parameters must not be changed");
+    } catch (UnsupportedOperationException e) {
+      // expected
+    }
+    assertNull(defaults.getPattern());
+  }
+}
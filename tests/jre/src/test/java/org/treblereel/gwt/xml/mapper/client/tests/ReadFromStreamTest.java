@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.treblereel.gwt.xml.mapper.client.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.j2cl.junit.apt.J2clTestInput;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import javax.xml.stream.XMLStreamException;
+import org.junit.Test;
+import org.treblereel.gwt.xml.mapper.api.annotation.XMLMapper;
+import org.treblereel.gwt.xml.mapper.api.stream.impl.MappedFileInputStream;
+
+@J2clTestInput(ReadFromStreamTest.class)
+public class ReadFromStreamTest {
+
+  private static final String XML =
+      "<?xml version='1.0' encoding='ISO-8859-1'?>\n"
+          + "<Person>\n"
+          + "    <firstName>   </firstName>\n"
+          + "    <lastName>Müller</lastName>\n"
+          + "</Person>";
+
+  private static final byte[] BYTES = XML.getBytes(StandardCharsets.ISO_8859_1);
+
+  private final ReadFromStreamTest_Person_XMLMapperImpl mapper =
+      ReadFromStreamTest_Person_XMLMapperImpl.INSTANCE;
+
+  private final Person expected = new Person("   ", "Müller");
+
+  @Test
+  public void testReadInputStream() throws XMLStreamException {
+    assertEquals(expected, mapper.read(new ByteArrayInputStream(BYTES)));
+  }
+
+  @Test
+  public void testReadReader() throws XMLStreamException {
+    assertEquals(expected, mapper.read(new StringReader(XML)));
+  }
+
+  @Test
+  public void testReadBytes() throws XMLStreamException {
+    byte[] padded = new byte[BYTES.length + 8];
+    System.arraycopy(BYTES, 0, padded, 4, BYTES.length);
+    assertEquals(expected, mapper.read(padded, 4, BYTES.length));
+  }
+
+  @Test
+  public void testReadPath() throws XMLStreamException, IOException {
+    Path path = Files.createTempFile("person", ".xml");
+    try {
+      Files.write(path, BYTES);
+      assertEquals(expected, mapper.read(path));
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @Test
+  public void testReadMappedWindows() throws XMLStreamException, IOException {
+    Path path = Files.createTempFile("person", ".xml");
+    try {
+      Files.write(path, BYTES);
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        assertEquals(expected, mapper.read(new MappedFileInputStream(channel, 7)));
+        channel.position(0);
+        assertEquals(expected, mapper.read(channel));
+      }
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  @XMLMapper
+  public static class Person {
+
+    private String firstName;
+    private String lastName;
+
+    public Person() {}
+
+    public Person(String firstName, String lastName) {
+      this.firstName = firstName;
+      this.lastName = lastName;
+    }
+
+    public String getFirstName() {
+      return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+      this.firstName = firstName;
+    }
+
+    public String getLastName() {
+      return lastName;
+    }
+
+    public void setLastName(String lastName) {
+      this.lastName = lastName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Person)) return false;
+
+      Person person = (Person) o;
+
+      if (getFirstName() != null
+          ? !getFirstName().equals(person.getFirstName())
+          : person.getFirstName() != null) return false;
+      return getLastName() != null
+          ? getLastName().equals(person.getLastName())
+          : person.getLastName() == null;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = getFirstName() != null ? getFirstName().hashCode() : 0;
+      result = 31 * result + (getLastName() != null ? getLastName().hashCode() : 0);
+      return result;
+    }
+  }
+}
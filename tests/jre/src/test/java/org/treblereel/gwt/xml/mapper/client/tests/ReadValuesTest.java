@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.treblereel.gwt.xml.mapper.client.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.j2cl.junit.apt.J2clTestInput;
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.Test;
+import org.treblereel.gwt.xml.mapper.api.MappingIterator;
+import org.treblereel.gwt.xml.mapper.api.NonBlockingObjectReader;
+import org.treblereel.gwt.xml.mapper.api.annotation.XMLMapper;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
+import org.treblereel.gwt.xml.mapper.api.stream.impl.BufferedXMLReader;
+
+@J2clTestInput(ReadValuesTest.class)
+public class ReadValuesTest {
+
+  private static final String XML =
+      "<?xml version='1.0' encoding='UTF-8'?>\n"
+          + "<document>\n"
+          + "  <header><row><id>-1</id></row></header>\n"
+          + "  <rows>\n"
+          + "    <!-- first -->\n"
+          + "    <row id=\"1\"><name>one</name></row>\n"
+          + "    <row id=\"2\"><name>two</name></row>\n"
+          + "    <row id=\"3\"/>\n"
+          + "  </rows>\n"
+          + "</document>";
+
+  private final ReadValuesTest_Row_XMLMapperImpl mapper = ReadValuesTest_Row_XMLMapperImpl.INSTANCE;
+
+  private final List<Row> expected =
+      Arrays.asList(new Row(1, "one"), new Row(2, "two"), new Row(3, null));
+
+  @Test
+  public void testReadValues() throws XMLStreamException {
+    assertEquals(expected, toList(mapper.readValues(XML, new QName("rows"))));
+  }
+
+  @Test
+  public void testReadValuesFromStream() throws XMLStreamException {
+    MappingIterator<Row> rows =
+        mapper.readValues(
+            new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)), new QName("rows"));
+    assertEquals(expected, toList(rows));
+    assertFalse(rows.hasNext());
+    rows.close();
+  }
+
+  @Test
+  public void testReadValuesOfRoot() throws XMLStreamException {
+    assertEquals(
+        Arrays.asList(new Row(5, "five")),
+        toList(mapper.readValues("<rows><row id=\"5\"><name>five</name></row></rows>", null)));
+    assertFalse(mapper.readValues("<rows/>", null).hasNext());
+  }
+
+  @Test
+  public void testReadValuesNonBlocking() throws XMLStreamException {
+    String xml = XML.replace("one", "один");
+    byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+    int third =
+        xml.substring(0, xml.indexOf("<row id=\"3\"")).getBytes(StandardCharsets.UTF_8).length;
+    List<Row> result = new ArrayList<>();
+    NonBlockingObjectReader<Row> rows =
+        new NonBlockingObjectReader<>(mapper, new QName("rows"), result::add);
+    // one byte at a time, so tags, texts and multi-byte characters are split across chunks
+    for (int i = 0; i < bytes.length; i++) {
+      assertTrue(rows.isDone() || rows.needsInput());
+      rows.feed(bytes, i, 1);
+      if (i == third) {
+        assertEquals(2, result.size());
+      }
+    }
+    rows.endOfInput();
+    assertTrue(rows.isDone());
+    assertEquals(Arrays.asList(new Row(1, "один"), new Row(2, "two"), new Row(3, null)), result);
+  }
+
+  @Test
+  public void testBufferedReaderPosition() throws XMLStreamException {
+    XMLStreamReader parser =
+        XMLInputFactory.newInstance()
+            .createXMLStreamReader(
+                new StringReader("<rows>\n  <row id=\"1\"><name>one</name></row>\n</rows>"));
+    parser.nextTag();
+    parser.nextTag();
+    BufferedXMLReader.Recorder recorder = BufferedXMLReader.recorder();
+    do {
+      recorder.add(parser);
+      parser.next();
+    } while (!recorder.isComplete());
+    XMLReader reader = recorder.build();
+    reader.next();
+    assertEquals("name", reader.peekNodeName().getLocalPart());
+    assertEquals(2, reader.getLocation().getLineNumber());
+    assertEquals(15, reader.getLocation().getColumnNumber());
+    assertEquals("<row id=\"1\"><name>one</name></row>", reader.getExcerpt());
+  }
+
+  private static List<Row> toList(MappingIterator<Row> iterator) {
+    List<Row> result = new ArrayList<>();
+    iterator.forEachRemaining(result::add);
+    return result;
+  }
+
+  @XMLMapper
+  @XmlRootElement(name = "row")
+  public static class Row {
+
+    @XmlAttribute private int id;
+
+    private String name;
+
+    public Row() {}
+
+    public Row(int id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    public int getId() {
+      return id;
+    }
+
+    public void setId(int id) {
+      this.id = id;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Row)) {
+        return false;
+      }
+      Row row = (Row) o;
+      return id == row.id && Objects.equals(name, row.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, name);
+    }
+
+    @Override
+    public String toString() {
+      return "Row{" + "id=" + id + ", name='" + name + '\'' + '}';
+    }
+  }
+}
@@ -45,6 +45,21 @@ public class RemoveWhitespaceTest {
     assertEquals(test, mapper.read(XML));
   }
 
+  @Test
+  public void testWhitespaceAroundComments() throws XMLStreamException {
+    Person test = new Person();
+    test.setFirstName(" ");
+    test.setLastName("VVV");
+    assertEquals(
+        test,
+        mapper.read(
+            "<Person>\n"
+                + "  <!-- names -->\n"
+                + "  <firstName> </firstName>\n"
+                + "\t<lastName>VVV</lastName>\n"
+                + "</Person>\n"));
+  }
+
   @XMLMapper
   public static class Person {
 
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.treblereel.gwt.xml.mapper.client.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.j2cl.junit.apt.J2clTestInput;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import org.junit.Test;
+import org.treblereel.gwt.xml.mapper.api.DefaultXMLSerializationContext;
+import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLName;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLWriter;
+import org.treblereel.gwt.xml.mapper.api.stream.impl.DefaultXMLWriter;
+import org.treblereel.gwt.xml.mapper.api.stream.impl.Utf8XMLWriter;
+import org.treblereel.gwt.xml.mapper.api.utils.Base64Utils;
+import org.treblereel.gwt.xml.mapper.client.tests.ReadFromStreamTest.Person;
+import org.treblereel.gwt.xml.mapper.client.tests.bpmn.bpmn2.Definitions;
+import org.treblereel.gwt.xml.mapper.client.tests.bpmn.bpmn2.Definitions_XMLMapperImpl;
+import org.treblereel.gwt.xml.mapper.client.tests.bpmn.bpmn2.ItemDefinition;
+
+@J2clTestInput(Utf8XMLWriterTest.class)
+public class Utf8XMLWriterTest {
+
+  private final ReadFromStreamTest_Person_XMLMapperImpl mapper =
+      ReadFromStreamTest_Person_XMLMapperImpl.INSTANCE;
+
+  private final XMLSerializationContext ctx =
+      DefaultXMLSerializationContext.builder().utf8Writer(true).build();
+
+  @Test
+  public void testEscaping() throws XMLStreamException {
+    assertSameOutput(new Person("<a> & ]]> \"b\" 'c'", "\r\n\t\u0085ÿ"));
+    assertSameOutput(new Person(">Jürgen", "Müller € 😀"));
+    assertSameOutput(new Person("", null));
+  }
+
+  @Test
+  public void testNamespaces() throws XMLStreamException {
+    Definitions definitions = new Definitions();
+    definitions.setId("id");
+    definitions.setExporter("<exporter>");
+    ItemDefinition itemDefinition = new ItemDefinition();
+    itemDefinition.setId("_DataObjectItem");
+    itemDefinition.setStructureRef("String");
+    definitions.getItemDefinitions().add(itemDefinition);
+
+    Definitions_XMLMapperImpl mapper = Definitions_XMLMapperImpl.INSTANCE;
+    String xml = mapper.write(definitions, ctx);
+    assertEquals(mapper.write(definitions), xml);
+    assertEquals(definitions, mapper.read(xml));
+  }
+
+  @Test
+  public void testLargeDocument() throws XMLStreamException {
+    StringBuilder name = new StringBuilder();
+    for (int i = 0; i < 20000; i++) {
+      name.append("ä&").append(i);
+    }
+    assertSameOutput(new Person(name.toString(), "Müller"));
+  }
+
+  @Test
+  public void testWriteOutputStream() throws XMLStreamException {
+    StringBuilder name = new StringBuilder();
+    for (int i = 0; i < 20000; i++) {
+      name.append("ü<").append(i);
+    }
+    Person person = new Person(name.toString(), "Müller");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    mapper.write(person, out, ctx);
+    assertEquals(mapper.write(person), new String(out.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testXMLName() throws XMLStreamException {
+    XMLName size = XMLName.of("größe");
+    XMLName value = XMLName.of("wert");
+    Utf8XMLWriter writer = new Utf8XMLWriter();
+    writer.beginObject("p", "urn:a", size);
+    writer.unescapeName(value);
+    writer.value("1");
+    writer.beginObject("p", "urn:a", size);
+    writer.endObject();
+    writer.unescapeName(value);
+    writer.nullValue();
+    writer.endObject();
+    assertEquals(
+        "<?xml version='1.0' encoding='UTF-8'?><p:größe><wert>1</wert><p:größe/><wert/></p:größe>",
+        writer.getOutput());
+  }
+
+  @Test
+  public void testPrimitiveValues() throws XMLStreamException {
+    Utf8XMLWriter utf8 = new Utf8XMLWriter();
+    DefaultXMLWriter stax = new DefaultXMLWriter(XMLOutputFactory.newFactory());
+    for (XMLWriter writer : new XMLWriter[] {utf8, stax}) {
+      writer.beginObject("values");
+      for (long value : new long[] {0, 7, -1, 10, 99, 1000000, Long.MIN_VALUE, Long.MAX_VALUE}) {
+        writer.unescapeName("long");
+        writer.value(value);
+        writer.beginObject("long");
+        writer.writeLong(value);
+        writer.endObject();
+      }
+      for (int value : new int[] {-10, 123456789, Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+        writer.beginObject("int");
+        writer.writeInt(value);
+        writer.endObject();
+      }
+      for (double value : new double[] {0.1, -0.0, 1e21, Double.NaN, Double.MIN_VALUE}) {
+        writer.beginObject("double");
+        writer.writeDouble(value);
+        writer.writeFloat((float) value);
+        writer.endObject();
+      }
+      writer.unescapeName("boolean");
+      writer.value(true);
+      writer.beginObject("boolean");
+      writer.writeBoolean(false);
+      writer.endObject();
+      writer.endObject();
+      writer.close();
+    }
+    assertEquals(stax.getOutput(), utf8.getOutput());
+  }
+
+  @Test
+  public void testBinaryValues() throws XMLStreamException {
+    byte[] bytes = new byte[10_000];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (i * 31);
+    }
+    Utf8XMLWriter utf8 = new Utf8XMLWriter();
+    DefaultXMLWriter stax = new DefaultXMLWriter(XMLOutputFactory.newFactory());
+    for (XMLWriter writer : new XMLWriter[] {utf8, stax}) {
+      writer.beginObject("values");
+      for (int length : new int[] {0, 1, 2, 3, 4, 5, bytes.length - 1}) {
+        writer.beginObject("bytes");
+        writer.writeBinary(bytes, 1, length);
+        writer.endObject();
+      }
+      writer.endObject();
+      writer.close();
+    }
+    assertEquals(stax.getOutput(), utf8.getOutput());
+    assertTrue(
+        utf8.getOutput()
+            .contains("<bytes>" + Base64Utils.toBase64(bytes, 1, bytes.length - 1) + "</bytes>"));
+  }
+
+  private void assertSameOutput(Person person) throws XMLStreamException {
+    assertEquals(mapper.write(person), mapper.write(person, ctx));
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.treblereel.gwt.xml.mapper.client.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.j2cl.junit.apt.J2clTestInput;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import javax.xml.stream.XMLStreamException;
+import org.junit.Test;
+import org.treblereel.gwt.xml.mapper.api.DefaultXMLSerializationContext;
+import org.treblereel.gwt.xml.mapper.api.XMLSerializationContext;
+import org.treblereel.gwt.xml.mapper.client.tests.ReadFromStreamTest.Person;
+
+@J2clTestInput(WriteToStreamTest.class)
+public class WriteToStreamTest {
+
+  private final ReadFromStreamTest_Person_XMLMapperImpl mapper =
+      ReadFromStreamTest_Person_XMLMapperImpl.INSTANCE;
+
+  private final Person person = new Person("Jürgen", "Müller");
+
+  @Test
+  public void testWriteOutputStream() throws XMLStreamException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    mapper.write(person, out);
+    assertEquals(mapper.write(person), new String(out.toByteArray(), StandardCharsets.UTF_8));
+    assertEquals(person, mapper.read(new ByteArrayInputStream(out.toByteArray())));
+  }
+
+  @Test
+  public void testWriteWriter() throws XMLStreamException {
+    StringWriter out = new StringWriter();
+    mapper.write(person, out);
+    assertEquals(mapper.write(person), out.toString());
+  }
+
+  @Test
+  public void testWriteChannel() throws XMLStreamException, IOException {
+    XMLSerializationContext ctx =
+        DefaultXMLSerializationContext.builder().encoding("ISO-8859-1").build();
+    Path path = Files.createTempFile("person", ".xml");
+    try {
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+        mapper.write(person, channel, ctx);
+      }
+      byte[] bytes = Files.readAllBytes(path);
+      String xml = new String(bytes, StandardCharsets.ISO_8859_1);
+      assertTrue(xml, xml.startsWith("<?xml version='1.0' encoding='ISO-8859-1'?>"));
+      assertTrue(xml, xml.contains("<lastName>Müller</lastName>"));
+      assertEquals(person, mapper.read(path));
+    } finally {
+      Files.delete(path);
+    }
+  }
+}
@@ -16,12 +16,19 @@
 
 package org.treblereel.gwt.xml.mapper.client.tests.annotations.collection;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.google.j2cl.junit.apt.J2clTestInput;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.stream.XMLStreamException;
 import org.junit.Test;
 import org.treblereel.gwt.xml.mapper.api.annotation.XMLMapper;
@@ -63,6 +70,117 @@ public class ArrayAndListWrapTest {
     assertTrue(demo.equals(mapper.read(mapper.write(demo))));
   }
 
+  @Test
+  public void testNested() throws XMLStreamException {
+    Node root = new Node("root");
+    Node left = new Node("left");
+    left.getChildren().add(new Node("left.1"));
+    left.getChildren().add(new Node("left.2"));
+    root.getChildren().add(left);
+    root.getChildren().add(new Node("right"));
+
+    ArrayAndListWrapTest_Node_XMLMapperImpl mapper =
+        ArrayAndListWrapTest_Node_XMLMapperImpl.INSTANCE;
+
+    String xml = mapper.write(root);
+    assertEquals(root, mapper.read(xml));
+    assertEquals(root, mapper.read(xml));
+    assertEquals(new Node("left.2"), mapper.read(xml).getChildren().get(0).getChildren().get(1));
+  }
+
+  @Test
+  public void testConcurrentReads() throws Exception {
+    Node root = new Node("root");
+    for (int i = 0; i < 8; i++) {
+      Node child = new Node("child" + i);
+      for (int j = 0; j < i; j++) {
+        child.getChildren().add(new Node("child" + i + "." + j));
+      }
+      root.getChildren().add(child);
+    }
+
+    ArrayAndListWrapTest_Node_XMLMapperImpl mapper =
+        ArrayAndListWrapTest_Node_XMLMapperImpl.INSTANCE;
+    String xml = mapper.write(root);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Node>> futures = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        futures.add(executor.submit(() -> mapper.read(xml)));
+      }
+      for (Future<Node> future : futures) {
+        assertEquals(root, future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testSettersRunInDocumentOrder() throws XMLStreamException {
+    Ordered ordered = new Ordered();
+    ordered.setFirst(Arrays.asList("1"));
+    ordered.setSecond(Arrays.asList("2"));
+    ordered.setThird(Arrays.asList("3"));
+    ordered.setFourth(Arrays.asList("4"));
+    ordered.setFifth(Arrays.asList("5"));
+    ordered.setSixth(Arrays.asList("6"));
+
+    ArrayAndListWrapTest_Ordered_XMLMapperImpl mapper =
+        ArrayAndListWrapTest_Ordered_XMLMapperImpl.INSTANCE;
+
+    assertEquals(
+        Arrays.asList("first", "second", "third", "fourth", "fifth", "sixth"),
+        mapper.read(mapper.write(ordered)).getOrder());
+  }
+
+  @XMLMapper
+  public static class Node {
+    @XmlAttribute private String name;
+    @XmlUnwrappedCollection private List<Node> children = new ArrayList<>();
+
+    public Node() {}
+
+    public Node(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public List<Node> getChildren() {
+      return children;
+    }
+
+    public void setChildren(List<Node> children) {
+      this.children = children;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, children);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Node)) return false;
+      Node node = (Node) o;
+      return Objects.equals(name, node.name) && Objects.equals(children, node.children);
+    }
+
+    @Override
+    public String toString() {
+      return "Node{" + "name=" + name + ", children=" + children + '}';
+    }
+  }
+
   @XMLMapper
   public static class Demo {
     @XmlUnwrappedCollection private Boolean[] array1;
@@ -127,4 +245,77 @@ public class ArrayAndListWrapTest {
           + '}';
     }
   }
+
+  @XMLMapper
+  public static class Ordered {
+    @XmlUnwrappedCollection private List<String> first;
+    @XmlUnwrappedCollection private List<String> second;
+    @XmlUnwrappedCollection private List<String> third;
+    @XmlUnwrappedCollection private List<String> fourth;
+    @XmlUnwrappedCollection private List<String> fifth;
+    @XmlUnwrappedCollection private List<String> sixth;
+    @XmlTransient private List<String> order = new ArrayList<>();
+
+    public List<String> getOrder() {
+      return order;
+    }
+
+    public void setOrder(List<String> order) {
+      this.order = order;
+    }
+
+    public List<String> getFirst() {
+      return first;
+    }
+
+    public void setFirst(List<String> first) {
+      this.first = first;
+      order.add("first");
+    }
+
+    public List<String> getSecond() {
+      return second;
+    }
+
+    public void setSecond(List<String> second) {
+      this.second = second;
+      order.add("second");
+    }
+
+    public List<String> getThird() {
+      return third;
+    }
+
+    public void setThird(List<String> third) {
+      this.third = third;
+      order.add("third");
+    }
+
+    public List<String> getFourth() {
+      return fourth;
+    }
+
+    public void setFourth(List<String> fourth) {
+      this.fourth = fourth;
+      order.add("fourth");
+    }
+
+    public List<String> getFifth() {
+      return fifth;
+    }
+
+    public void setFifth(List<String> fifth) {
+      this.fifth = fifth;
+      order.add("fifth");
+    }
+
+    public List<String> getSixth() {
+      return sixth;
+    }
+
+    public void setSixth(List<String> sixth) {
+      this.sixth = sixth;
+      order.add("sixth");
+    }
+  }
 }
@@ -16,6 +16,7 @@
 package org.treblereel.gwt.xml.mapper.client.tests.annotations.seealso;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import com.google.j2cl.junit.apt.J2clTestInput;
 import java.util.ArrayList;
@@ -97,6 +98,40 @@ public class SeeAlsoTest {
     assertEquals(animal, mapperAnimal.read(mapperAnimal.write(animal)));
   }
 
+  @Test
+  public void testAnimalSubtypesAcrossReads() throws XMLStreamException {
+    final SeeAlsoTest_SeeAlsoAnimalHolder_XMLMapperImpl mapper =
+        SeeAlsoTest_SeeAlsoAnimalHolder_XMLMapperImpl.INSTANCE;
+
+    Cat cat = new Cat();
+    cat.setNickname("Cat");
+
+    Dog dog = new Dog();
+    dog.setNickname("Dog");
+
+    SeeAlsoAnimalHolder holder = new SeeAlsoAnimalHolder();
+    holder.first = cat;
+    holder.second = dog;
+    holder.animal = new Animal();
+    holder.animal.setName("Animal");
+
+    SeeAlsoAnimalHolder swapped = new SeeAlsoAnimalHolder();
+    swapped.first = dog;
+    swapped.second = cat;
+
+    assertEquals(holder, mapper.read(XML_ANIMAL));
+    SeeAlsoAnimalHolder result =
+        mapper.read(
+            XML_ANIMAL
+                .replace("<animal><name>Animal</name></animal>", "")
+                .replace("\"Cat\"><nickname>Cat", "\"Tmp\"><nickname>Tmp")
+                .replace("\"Dog\"><nickname>Dog", "\"Cat\"><nickname>Cat")
+                .replace("\"Tmp\"><nickname>Tmp", "\"Dog\"><nickname>Dog"));
+    assertEquals(swapped, result);
+    assertTrue(result.first instanceof Dog);
+    assertTrue(result.second instanceof Cat);
+  }
+
   @Test
   public void testAnimalCollection() throws XMLStreamException {
     SeeAlsoTest_SeeAlsoAnimalCollection_XMLMapperImpl mapper =
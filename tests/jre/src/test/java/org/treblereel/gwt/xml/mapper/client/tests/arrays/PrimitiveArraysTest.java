@@ -15,11 +15,14 @@
  */
 package org.treblereel.gwt.xml.mapper.client.tests.arrays;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import com.google.j2cl.junit.apt.J2clTestInput;
 import javax.xml.stream.XMLStreamException;
 import org.junit.Test;
+import org.treblereel.gwt.xml.mapper.api.utils.Base64Utils;
 
 /** @author Dmitrii Tikhomirov Created by treblereel 3/28/20 */
 @J2clTestInput(PrimitiveArraysTest.class)
@@ -50,6 +53,53 @@ public class PrimitiveArraysTest {
     }
   }
 
+  @Test
+  public void testLargeArrays() throws XMLStreamException {
+    PrimitiveArrays_XMLMapperImpl mapper = PrimitiveArrays_XMLMapperImpl.INSTANCE;
+
+    int size = 10_000;
+    boolean[] booleans = new boolean[size];
+    char[] chars = new char[size];
+    double[] doubles = new double[size];
+    int[] ints = new int[size];
+    long[] longs = new long[size];
+    short[] shorts = new short[size];
+    // longer than a chunk of the base 64 codecs, and not a multiple of 3
+    byte[] bytes = new byte[size * 10 + 1];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (i * 31);
+    }
+    for (int i = 0; i < size; i++) {
+      booleans[i] = i % 3 == 0;
+      chars[i] = (char) ('a' + i % 26);
+      doubles[i] = i * 1.5 - 7;
+      ints[i] = i * 7 - 30_000;
+      longs[i] = i * 3_000_000_000L;
+      shorts[i] = (short) (i - 5_000);
+    }
+
+    PrimitiveArrays test =
+        new PrimitiveArrays(strings, booleans, chars, bytes, doubles, ints, longs, shorts);
+    assertEquals(test, mapper.read(mapper.write(test)));
+  }
+
+  @Test
+  public void testLargeByteArrayText() throws XMLStreamException {
+    PrimitiveArrays_XMLMapperImpl mapper = PrimitiveArrays_XMLMapperImpl.INSTANCE;
+
+    // several chunks of the base 64 encoder, which every writer must keep in one text
+    byte[] bytes = new byte[3 * 1024 * 4 + 2];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (i * 7);
+    }
+    PrimitiveArrays test =
+        new PrimitiveArrays(strings, booleans, chars, bytes, doubles, ints, longs, shorts);
+
+    String xml = mapper.write(test);
+    assertTrue(xml.contains("<bytes>" + Base64Utils.toBase64(bytes) + "</bytes>"));
+    assertArrayEquals(bytes, mapper.read(xml).getBytes());
+  }
+
   @Test
   public void testDeserializeValueUnwrapped() throws XMLStreamException {
     PrimitiveArraysUnwrapped_XMLMapperImpl mapper = PrimitiveArraysUnwrapped_XMLMapperImpl.INSTANCE;
@@ -21,8 +21,14 @@ import static org.junit.Assert.assertTrue;
 
 import com.google.j2cl.junit.apt.J2clTestInput;
 import java.util.Arrays;
+import java.util.List;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import org.junit.Test;
+import org.treblereel.gwt.xml.mapper.api.DefaultXMLDeserializationContext;
+import org.treblereel.gwt.xml.mapper.api.XMLDeserializationContext;
+import org.treblereel.gwt.xml.mapper.api.deser.array.dd.PrimitiveByteArray2dXMLDeserializer;
+import org.treblereel.gwt.xml.mapper.api.stream.XMLReader;
 
 /** @author Dmitrii Tikhomirov Created by treblereel 3/29/20 */
 @J2clTestInput(ByteArray2dTest.class)
@@ -65,4 +71,28 @@ public class ByteArray2dTest {
     assertEquals(XML, mapper.write(test));
     assertTrue(Arrays.deepEquals(array, mapper.read(mapper.write(test)).getArray()));
   }
+
+  @Test
+  public void testAccumulateSkipsOtherElements() throws XMLStreamException {
+    XMLDeserializationContext ctx = DefaultXMLDeserializationContext.builder().build();
+    XMLReader reader =
+        ctx.newXMLReader(
+            "<ByteArray2d><other>APXq3w==</other><array>AGScAA==</array></ByteArray2d>");
+    PrimitiveByteArray2dXMLDeserializer deserializer =
+        PrimitiveByteArray2dXMLDeserializer.getInstance();
+    deserializer.setRowName("array");
+    List<byte[]> rows = deserializer.newAccumulator();
+
+    reader.next();
+    reader.next();
+    deserializer.accumulate(reader, ctx, ctx.defaultParameters(), rows);
+    assertTrue(rows.isEmpty());
+
+    while (reader.peek() != XMLStreamConstants.START_ELEMENT
+        || !reader.peekNodeName().getLocalPart().equals("array")) {
+      reader.next();
+    }
+    deserializer.accumulate(reader, ctx, ctx.defaultParameters(), rows);
+    assertTrue(Arrays.deepEquals(new byte[][] {{0, 100, -100, 0}}, deserializer.finish(rows)));
+  }
 }
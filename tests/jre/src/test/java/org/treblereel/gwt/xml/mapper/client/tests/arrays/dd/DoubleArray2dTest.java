@@ -55,4 +55,25 @@ public class DoubleArray2dTest {
     assertEquals(XML2, mapper.write(test));
     assertEquals(XML2, mapper.write(mapper.read(mapper.write(test))));
   }
+
+  @Test
+  public void testDeserializeRows() throws XMLStreamException {
+    int rows = 300;
+    int columns = 40;
+    double[][] expected = new double[rows][columns];
+    StringBuilder xml = new StringBuilder("<DoubleArray2d>");
+    for (int i = 0; i < rows; i++) {
+      xml.append("<array>");
+      for (int j = 0; j < columns; j++) {
+        expected[i][j] = i * 0.5 - j;
+        xml.append("<array>").append(expected[i][j]).append("</array>");
+      }
+      xml.append("</array>");
+    }
+    xml.append("</DoubleArray2d>");
+
+    DoubleArray2d result = mapper.read(xml.toString());
+    test.setArray(expected);
+    assertEquals(test, result);
+  }
 }
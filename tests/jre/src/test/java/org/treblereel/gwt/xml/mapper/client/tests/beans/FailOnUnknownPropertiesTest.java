@@ -17,12 +17,23 @@
 package org.treblereel.gwt.xml.mapper.client.tests.beans;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.google.j2cl.junit.apt.J2clTestInput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
 import javax.xml.stream.XMLStreamException;
 import org.junit.Test;
 import org.treblereel.gwt.xml.mapper.api.DefaultXMLDeserializationContext;
+import org.treblereel.gwt.xml.mapper.api.DefaultXMLSerializationContext;
+import org.treblereel.gwt.xml.mapper.api.ObjectMapper;
 import org.treblereel.gwt.xml.mapper.api.annotation.XMLMapper;
+import org.treblereel.gwt.xml.mapper.api.exception.XMLDeserializationException;
 
 /** @author Dmitrii Tikhomirov Created by treblereel 9/3/20 */
 @J2clTestInput(FailOnUnknownPropertiesTest.class)
@@ -46,6 +57,73 @@ public class FailOnUnknownPropertiesTest {
             DefaultXMLDeserializationContext.builder().failOnUnknownProperties(false).build()));
   }
 
+  @Test
+  public void testBoundContext() throws XMLStreamException {
+    Bean bean = new Bean();
+    bean.setValue("BEAN");
+
+    ObjectMapper<Bean> lenient =
+        mapper
+            .with(DefaultXMLDeserializationContext.builder().failOnUnknownProperties(false).build())
+            .with(DefaultXMLSerializationContext.builder().build());
+    assertEquals(bean, lenient.read(XML));
+    assertEquals(bean, lenient.read(lenient.write(bean)));
+    assertSame(mapper.getSerializer(), lenient.getSerializer());
+
+    try {
+      mapper.read(XML);
+      fail();
+    } catch (XMLDeserializationException e) {
+      // the bound context does not leak into the shared mapper
+    }
+  }
+
+  @Test
+  public void testSkipUnknownSubtree() throws XMLStreamException {
+    Bean bean = new Bean();
+    bean.setValue("BEAN");
+
+    assertEquals(
+        bean,
+        mapper.read(
+            "<Bean><value>BEAN</value>"
+                + "<extension><value>WRONG</value><a><b>text</b><c/></a></extension>"
+                + "<value2/></Bean>",
+            DefaultXMLDeserializationContext.builder().failOnUnknownProperties(false).build()));
+  }
+
+  @Test
+  public void testErrorLocation() throws XMLStreamException {
+    List<String> messages = new ArrayList<>();
+    Handler handler =
+        new Handler() {
+          @Override
+          public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+          }
+
+          @Override
+          public void flush() {}
+
+          @Override
+          public void close() {}
+        };
+    Logger logger = Logger.getLogger("XMLDeserialization");
+    logger.addHandler(handler);
+    try {
+      mapper.read(
+          "<Bean>\n  <value>BEAN</value>\n  <unknown>X</unknown>\n</Bean>",
+          DefaultXMLDeserializationContext.builder().excerptLength(64).build());
+      fail();
+    } catch (XMLDeserializationException e) {
+      String info = messages.get(messages.size() - 1);
+      assertTrue(info, info.startsWith("Error at /Bean/unknown (line 3, column 3, offset "));
+      assertTrue(info, info.contains("<unknown>X</unknown>"));
+    } finally {
+      logger.removeHandler(handler);
+    }
+  }
+
   @XMLMapper
   public static class Bean {
     private String value;
@@ -21,6 +21,9 @@ import com.google.j2cl.junit.apt.J2clTestInput;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.xml.stream.XMLStreamException;
 import org.junit.Test;
 
@@ -78,4 +81,67 @@ public class IfaceBeanTest {
     String xml = userMapper.write(user);
     assertEquals(user, userMapper.read(xml));
   }
+
+  @Test
+  public void testAlternatingClasses() throws XMLStreamException {
+    IAddress[] addresses = {new Address(), new Address2(), new Address3()};
+    for (int i = 0; i < addresses.length; i++) {
+      addresses[i].setAddress("address" + i);
+    }
+
+    List<IAddress> list = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      list.add(addresses[i % addresses.length]);
+    }
+
+    User user = new User();
+    user.setUser("test");
+    user.setIAddressList(list);
+
+    String first = null;
+    for (int i = 0; i < 6; i++) {
+      user.setIAddress(addresses[i % addresses.length]);
+      String xml = userMapper.write(user);
+      assertEquals(user, userMapper.read(xml));
+      if (i % addresses.length == 0) {
+        if (first == null) {
+          first = xml;
+        }
+        assertEquals(first, xml);
+      }
+    }
+  }
+
+  @Test
+  public void testSubtypesAcrossThreads() throws Exception {
+    IAddress address = new Address();
+    address.setAddress("address");
+    IAddress address2 = new Address2();
+    address2.setAddress("address2");
+
+    User user = new User();
+    user.setUser("test");
+    user.setIAddress(address);
+    String xml = userMapper.write(user);
+    User user2 = new User();
+    user2.setUser("test");
+    user2.setIAddress(address2);
+    String xml2 = userMapper.write(user2);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<User>> futures = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        String document = i % 2 == 0 ? xml : xml2;
+        futures.add(executor.submit(() -> userMapper.read(document)));
+      }
+      for (int i = 0; i < futures.size(); i++) {
+        User result = futures.get(i).get();
+        assertEquals(i % 2 == 0 ? user : user2, result);
+        assertEquals(i % 2 == 0 ? Address.class : Address2.class, result.getIAddress().getClass());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
 }
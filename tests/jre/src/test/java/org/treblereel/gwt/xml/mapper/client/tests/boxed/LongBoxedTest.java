@@ -23,6 +23,7 @@ import java.util.Objects;
 import javax.xml.stream.XMLStreamException;
 import org.junit.Test;
 import org.treblereel.gwt.xml.mapper.api.annotation.XMLMapper;
+import org.treblereel.gwt.xml.mapper.api.exception.XMLDeserializationException;
 
 /** @author Dmitrii Tikhomirov Created by treblereel 4/22/20 */
 @J2clTestInput(LongBoxedTest.class)
@@ -64,6 +65,23 @@ public class LongBoxedTest {
     assertEquals(new Long(-17222l), mapper.read(XML__17222).getValue());
   }
 
+  @Test
+  public void testDeserializeLimits() throws XMLStreamException {
+    assertEquals(
+        Long.valueOf(Long.MAX_VALUE),
+        mapper.read("<LongType><value>9223372036854775807</value></LongType>").getValue());
+    assertEquals(
+        Long.valueOf(Long.MIN_VALUE),
+        mapper.read("<LongType><value>-9223372036854775808</value></LongType>").getValue());
+    assertEquals(
+        Long.valueOf(42), mapper.read("<LongType><value>+42</value></LongType>").getValue());
+  }
+
+  @Test(expected = XMLDeserializationException.class)
+  public void testDeserializeOverflow() throws XMLStreamException {
+    mapper.read("<LongType><value>9223372036854775808</value></LongType>");
+  }
+
   @XMLMapper
   public static class LongType {
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.treblereel.gwt.xml.mapper.client.tests.date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.j2cl.junit.apt.J2clTestInput;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import org.treblereel.gwt.xml.mapper.api.MapperContext;
+import org.treblereel.gwt.xml.mapper.api.MapperContextProvider;
+import org.treblereel.gwt.xml.mapper.api.XMLSerializerParameters;
+
+@J2clTestInput(DateFormatCacheTest.class)
+public class DateFormatCacheTest {
+
+  private static final String PATTERN = "dd/MM/yyyy HH:mm:ss";
+
+  private final MapperContext.DateFormat dateFormat = MapperContextProvider.get().dateFormat();
+
+  @Test
+  public void testSharedInstance() {
+    assertSame(dateFormat, MapperContextProvider.get().dateFormat());
+  }
+
+  @Test
+  public void testManyPatterns() {
+    Date date = new Date(1377543971000L);
+    for (int i = 0; i < 1000; i++) {
+      String pattern = "'" + i + "' " + PATTERN;
+      String formatted = dateFormat.format(parameters(pattern), date);
+      assertEquals(i + " 26/08/2013 19:06:11", formatted);
+      assertEquals(date, dateFormat.parse(false, pattern, null, formatted));
+    }
+  }
+
+  @Test
+  public void testConcurrentPatterns() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Void>> results = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        int offset = t;
+        results.add(
+            executor.submit(
+                (Callable<Void>)
+                    () -> {
+                      for (int i = 0; i < 500; i++) {
+                        Date date = new Date((offset * 500L + i) * 3607000L);
+                        String formatted = dateFormat.format(parameters(PATTERN), date);
+                        assertEquals(date, dateFormat.parse(false, PATTERN, null, formatted));
+                      }
+                      return null;
+                    }));
+      }
+      for (Future<Void> result : results) {
+        result.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static XMLSerializerParameters parameters(String pattern) {
+    return MapperContextProvider.get().newSerializerParameters().setPattern(pattern);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2020 Treblereel
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.treblereel.gwt.xml.mapper.client.tests.date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.google.j2cl.junit.apt.J2clTestInput;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import org.junit.Test;
+import org.treblereel.gwt.xml.mapper.api.utils.Iso8601Utils;
+
+@J2clTestInput(Iso8601UtilsTest.class)
+public class Iso8601UtilsTest {
+
+  private static final DateTimeFormatter ISO =
+      DateTimeFormatter.ISO_ZONED_DATE_TIME.withZone(ZoneOffset.UTC);
+
+  @Test
+  public void testFormatMatchesDateTimeFormatter() {
+    Random random = new Random(42);
+    long[] samples = {0L, -1L, 1377543971773L, 1377543971770L, 1377543971700L, 951782400000L};
+    for (long millis : samples) {
+      assertEquals(ISO.format(Instant.ofEpochMilli(millis)), Iso8601Utils.format(millis));
+    }
+    for (int i = 0; i < 10000; i++) {
+      long millis = (long) ((random.nextDouble() * 2 - 1) * 60_000_000_000_000L);
+      assertEquals(ISO.format(Instant.ofEpochMilli(millis)), Iso8601Utils.format(millis));
+      assertEquals(millis, Iso8601Utils.parse(Iso8601Utils.format(millis)));
+    }
+  }
+
+  @Test
+  public void testFormatOutOfRange() {
+    assertNull(Iso8601Utils.format(Instant.parse("+10000-01-01T00:00:00Z").toEpochMilli()));
+    assertNull(Iso8601Utils.format(Instant.parse("-0001-12-31T23:59:59Z").toEpochMilli()));
+  }
+
+  @Test
+  public void testParseOffsets() {
+    long expected = 1377543971773L;
+    assertEquals(expected, Iso8601Utils.parse("2013-08-26T19:06:11.773Z"));
+    assertEquals(expected, Iso8601Utils.parse("2013-08-26T21:06:11.773+02:00"));
+    assertEquals(expected, Iso8601Utils.parse("2013-08-26T21:06:11.773+0200"));
+    assertEquals(expected, Iso8601Utils.parse("2013-08-26T21:06:11.773+02"));
+    assertEquals(expected, Iso8601Utils.parse("2013-08-26T14:36:11.773-04:30"));
+    assertEquals(expected, Iso8601Utils.parse("2013-08-26T19:06:11.773999999Z"));
+    assertEquals(expected - 773, Iso8601Utils.parse("2013-08-26T19:06:11Z"));
+    assertEquals(expected - 11773, Iso8601Utils.parse("2013-08-26T19:06Z"));
+    assertEquals(expected - 73, Iso8601Utils.parse("2013-08-26T19:06:11.7Z"));
+    assertEquals(951782400000L, Iso8601Utils.parse("2000-02-29T00:00:00Z"));
+  }
+
+  @Test
+  public void testParseInvalid() {
+    String[] invalid = {
+      "",
+      "2013-08-26",
+      "2013-08-26T19:06:11",
+      "2013-08-26T19:06:11.Z",
+      "2013-08-26T19:06:11.7734567890Z",
+      "2013-08-26T19:06:11Z[UTC]",
+      "2013-08-26T19:06:11+02:00[Europe/Paris]",
+      "2013-08-26T19:06:11+02:",
+      "2013-08-26T24:00:00Z",
+      "2013-02-29T00:00:00Z",
+      "2013-13-01T00:00:00Z",
+      "2013-08-26 19:06:11Z",
+      "+2013-08-26T19:06:11Z"
+    };
+    for (String text : invalid) {
+      assertEquals(text, Iso8601Utils.INVALID, Iso8601Utils.parse(text));
+    }
+  }
+}
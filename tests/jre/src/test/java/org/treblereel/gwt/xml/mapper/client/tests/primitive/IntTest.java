@@ -22,6 +22,7 @@ import java.util.Objects;
 import javax.xml.stream.XMLStreamException;
 import org.junit.Test;
 import org.treblereel.gwt.xml.mapper.api.annotation.XMLMapper;
+import org.treblereel.gwt.xml.mapper.api.exception.XMLDeserializationException;
 
 /** @author Dmitrii Tikhomirov Created by treblereel 4/22/20 */
 @J2clTestInput(IntTest.class)
@@ -55,6 +56,16 @@ public class IntTest {
     assertEquals(-17222, mapper.read(XML__17222).getValue());
   }
 
+  @Test
+  public void testDeserializeSign() throws XMLStreamException {
+    assertEquals(42, mapper.read("<IntType><value>+42</value></IntType>").getValue());
+  }
+
+  @Test(expected = XMLDeserializationException.class)
+  public void testDeserializeSurroundingWhitespace() throws XMLStreamException {
+    mapper.read("<IntType><value> 42 </value></IntType>");
+  }
+
   @XMLMapper
   public static class IntType {
 